@@ -0,0 +1,149 @@
+"""
+collaborative_models/*.pkl (surprise SVD) 을 Java 추천 엔진이 읽는 JSON 으로 변환
+
+    python export_factors.py [모델 디렉터리] [출력 디렉터리] [--parity-fixture 파일]
+
+출력: factors_{연령대}s.json (기본 출력 디렉터리 ../recommendation, 저장소에는 올리지 않음)
+    globalMean, ratingScale, userIds/userBias/userFactors, itemIds/itemBias/itemFactors
+    (배열 순서는 surprise 내부 id 순서와 같음)
+    배포 시 출력 디렉터리를 서버에 두고 recommendation.model-location 으로 지정 (README 추천 모델 배포 참고)
+
+--parity-fixture 를 주면 20대 모델로 app.py /recommend 와 같은 방식으로 계산한 추천 결과를
+Java 테스트(LocalWorkplaceRecommenderTest) 비교용 fixture 로 함께 출력하고,
+같은 디렉터리에 fixture 의 회원만 남긴 테스트용 factors_20s.json 을 만든다
+
+    python export_factors.py collaborative_models ../recommendation \
+        --parity-fixture ../src/test/resources/recommendation/parity-fixture.json
+"""
+import json
+import os
+import pickle
+import struct
+import sys
+from decimal import Decimal, ROUND_HALF_UP
+
+AGE_GROUPS = [10, 20, 30, 40]
+FIXTURE_AGE_GROUP = 20
+
+# app.py /recommend 와 같은 하이브리드 가중치
+MODEL_WEIGHT = 0.3
+REVIEW_WEIGHT = 0.7
+
+
+def export_model(model, age_group):
+    trainset = model.trainset
+    return {
+        'ageGroup': age_group,
+        'nFactors': model.n_factors,
+        'globalMean': float(trainset.global_mean),
+        'ratingScale': [float(bound) for bound in trainset.rating_scale],
+        'userIds': [trainset.to_raw_uid(inner) for inner in range(trainset.n_users)],
+        'userBias': [float(value) for value in model.bu],
+        'userFactors': [[float(value) for value in row] for row in model.pu],
+        'itemIds': [trainset.to_raw_iid(inner) for inner in range(trainset.n_items)],
+        'itemBias': [float(value) for value in model.bi],
+        'itemFactors': [[float(value) for value in row] for row in model.qi],
+    }
+
+
+def to_float32(value):
+    # Java 는 요인을 float 로 읽으므로 float 로 복원되는 최소 자릿수만 남김 (테스트용 모델 크기 축소)
+    return float('%.9g' % struct.unpack('f', struct.pack('f', value))[0])
+
+
+def test_model(exported, member_ids):
+    # 추천 결과는 회원 한 명의 요인과 전체 사업장 요인으로만 계산되므로 fixture 의 회원만 남겨도 같음
+    rows = [i for i, user_id in enumerate(exported['userIds']) if user_id in member_ids]
+    return dict(exported,
+                userIds=[exported['userIds'][i] for i in rows],
+                userBias=[exported['userBias'][i] for i in rows],
+                userFactors=[[to_float32(v) for v in exported['userFactors'][i]] for i in rows],
+                itemFactors=[[to_float32(v) for v in row] for row in exported['itemFactors']])
+
+
+def review_score(star_sum, review_count):
+    # MySQL 의 star_sum / NULLIF(review_count, 0) 결과 (소수점 4자리 DECIMAL, 반올림)
+    if not review_count:
+        return 0.0
+    score = Decimal(star_sum) / Decimal(review_count)
+    return float(score.quantize(Decimal('0.0001'), rounding=ROUND_HALF_UP))
+
+
+def recommend(model, user_id, workplaces, n):
+    # app.py /recommend 의 점수 계산과 정렬을 그대로 따름 (workplaces 는 workplace_id 순)
+    predictions = []
+    for workplace_id, star_sum, review_count in workplaces:
+        predicted_rating = float(model.predict(user_id, workplace_id).est)
+        final_score = (predicted_rating * MODEL_WEIGHT) + (review_score(star_sum, review_count) * REVIEW_WEIGHT)
+        final_score = min(max(final_score, 1), 5)
+        predictions.append({
+            'workplaceId': workplace_id,
+            'predictedRating': round(predicted_rating, 5),
+            'finalScore': round(final_score, 2),
+        })
+    return sorted(predictions, key=lambda x: round(x['finalScore'], 4), reverse=True)[:n]
+
+
+def parity_fixture(model):
+    # 학습된 사업장 + 학습에 없는 사업장 2개, 리뷰 점수는 id 로 결정되는 고정 값
+    item_ids = sorted(model.trainset.to_raw_iid(inner) for inner in range(model.trainset.n_items))
+    workplace_ids = item_ids + [item_ids[-1] + 1, item_ids[-1] + 2]
+    workplaces = []
+    for workplace_id in workplace_ids:
+        review_count = (workplace_id * 7) % 5
+        star_sum = review_count * ((workplace_id * 3) % 5 + 1) - (workplace_id % 2 if review_count else 0)
+        workplaces.append((workplace_id, star_sum, review_count))
+
+    user_ids = [model.trainset.to_raw_uid(inner) for inner in range(min(3, model.trainset.n_users))]
+    cases = [{'memberId': user_id, 'age': FIXTURE_AGE_GROUP + 5, 'n': 5,
+              'expected': recommend(model, user_id, workplaces, 5)}
+             for user_id in user_ids + [0]]  # 0: 학습에 없는 회원
+
+    return {
+        'ageGroup': FIXTURE_AGE_GROUP,
+        'workplaces': [{'workplaceId': w[0], 'starSum': w[1], 'reviewCount': w[2]} for w in workplaces],
+        'cases': cases,
+    }
+
+
+def main(args):
+    fixture_path = None
+    if '--parity-fixture' in args:
+        index = args.index('--parity-fixture')
+        fixture_path = args[index + 1]
+        args = args[:index] + args[index + 2:]
+
+    model_dir = args[0] if len(args) > 0 else 'collaborative_models'
+    output_dir = args[1] if len(args) > 1 else '../recommendation'
+    os.makedirs(output_dir, exist_ok=True)
+
+    for age_group in AGE_GROUPS:
+        model_path = os.path.join(model_dir, f'collaborative_model_{age_group}s.pkl')
+        if not os.path.exists(model_path):
+            print(f"Model for age group {age_group}s not found at {model_path}. Skipping...")
+            continue
+
+        with open(model_path, 'rb') as f:
+            model = pickle.load(f)
+
+        exported = export_model(model, age_group)
+        output_path = os.path.join(output_dir, f'factors_{age_group}s.json')
+        with open(output_path, 'w') as f:
+            json.dump(exported, f)
+        print(f"Exported {model_path} -> {output_path}")
+
+        if fixture_path and age_group == FIXTURE_AGE_GROUP:
+            fixture = parity_fixture(model)
+            with open(fixture_path, 'w') as f:
+                json.dump(fixture, f, indent=2)
+            print(f"Parity fixture -> {fixture_path}")
+
+            test_model_path = os.path.join(os.path.dirname(fixture_path), f'factors_{age_group}s.json')
+            with open(test_model_path, 'w') as f:
+                json.dump(test_model(exported, {case['memberId'] for case in fixture['cases']}), f)
+                f.write('\n')
+            print(f"Test model -> {test_model_path}")
+
+
+if __name__ == '__main__':
+    main(sys.argv[1:])
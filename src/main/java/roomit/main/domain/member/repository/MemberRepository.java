@@ -1,7 +1,10 @@
 package roomit.main.domain.member.repository;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import roomit.main.domain.member.entity.Member;
 import roomit.main.global.oauth2.dto.Provider;
 
@@ -24,4 +27,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
         WHERE m.memberId = :senderId AND m.memberNickname.value = :senderName
     """)
     boolean existsByIdAndMemberNickName(Long senderId, String senderName);
+
+    // 추천 목록 사전 계산용 (member_id, birth_day)
+    @Query("SELECT m.memberId, m.birthDay FROM Member m WHERE m.memberId > :lastId AND m.birthDay IS NOT NULL ORDER BY m.memberId")
+    List<Object[]> findBirthDaysAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
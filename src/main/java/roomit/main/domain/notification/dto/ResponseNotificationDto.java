@@ -33,7 +33,7 @@ public class ResponseNotificationDto {
         this.workplaceId = notification.getWorkplaceId();
         this.workplaceName = notification.getWorkplaceName();
         this.notificationType = notification.getReveiewNotificationType();
-        this.imageURL = fileLocationService.getImagesFromFolder(notification.getUrl()).get(0);
+        this.imageURL = fileLocationService.getThumbnail(notification.getUrl());
         //
     }
 
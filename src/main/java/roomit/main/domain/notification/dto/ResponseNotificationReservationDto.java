@@ -38,7 +38,7 @@ public class ResponseNotificationReservationDto {
         this.reservationName = notification.getReservationName();
         this.studyRoomName = notification.getStudyRoomName();
         this.workplaceName = notification.getWorkplaceName();
-        this.url = fileLocationService.getImagesFromFolder(notification.getUrl()).get(0);
+        this.url = fileLocationService.getThumbnail(notification.getUrl());
     }
 
     public static ResponseNotificationReservationDto fromEntityReservation(Notification notification, FileLocationService fileLocationService) {
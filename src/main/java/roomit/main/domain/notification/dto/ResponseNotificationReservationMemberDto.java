@@ -38,7 +38,7 @@ public class ResponseNotificationReservationMemberDto {
         this.price = notification.getPrice();
         this.workplaceName = notification.getWorkplaceName();
         this.studyRoomName = notification.getStudyRoomName();
-        this.imageUrl = fileLocationService.getImagesFromFolder(notification.getImageUrl()).get(0);
+        this.imageUrl = fileLocationService.getThumbnail(notification.getImageUrl());
     }
 
     public static ResponseNotificationReservationMemberDto fromEntityReservationtoMember(MemberNotification memberNotification, FileLocationService fileLocationService) {
@@ -11,10 +11,12 @@ import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
 import net.minidev.json.JSONObject;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 import roomit.main.domain.business.entity.Business;
 import roomit.main.domain.member.entity.Member;
@@ -39,6 +41,7 @@ import roomit.main.domain.payments.repository.PaymentsRepository;
 import roomit.main.domain.reservation.entity.Reservation;
 import roomit.main.domain.reservation.entity.ReservationState;
 import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.reservation.service.ReservationChangedEvent;
 import roomit.main.domain.studyroom.entity.value.StudyRoomName;
 import roomit.main.domain.workplace.entity.Workplace;
 import roomit.main.global.error.ErrorCode;
@@ -57,6 +60,9 @@ public class PaymentsService {
     private final FileLocationService fileLocationService;
     private final NotificationRepository notificationRepository;
     private final MemberNotificationRepository memberNotificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestTemplate tossRestTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 결제 검증
@@ -85,12 +91,51 @@ public class PaymentsService {
          * 결제 성공
          */
 
-    @Transactional
+    // 토스 승인 호출 동안에는 트랜잭션/행 잠금을 잡지 않음: 선점(짧은 트랜잭션) -> 토스 승인 -> 확정(짧은 트랜잭션)
     public PaymentsResponse tossPaymentSuccess(String paymentKey, String orderId, Long amount) {
-        Payments payments = verifyPayment(orderId, amount);
+        transactionTemplate.executeWithoutResult(status -> claimPayment(paymentKey, orderId, amount));
+
         PaymentsResponse result = requestPaymentAccept(paymentKey, orderId, amount);
 
-        Reservation reservation = payments.getReservation();
+        ReservationState confirmedState = transactionTemplate.execute(status -> confirmPayment(paymentKey, orderId, amount));
+        if (confirmedState != ReservationState.ON_HOLD) {
+            // 승인 중에 만료/취소된 경우: 이미 승인된 결제를 되돌리고 해당 상태의 오류로 응답
+            tossPaymentCancel(paymentKey, "예약 상태 변경으로 인한 자동 취소", amount);
+            validatePayableState(confirmedState);
+        }
+        return result;
+    }
+
+    /**
+     * 승인 요청 선점: 결제 가능한 상태인지 확인하고 승인 요청 시각을 남겨 만료 처리 대상에서 제외
+     */
+    private void claimPayment(String paymentKey, String orderId, Long amount) {
+        Payments payments = verifyPayment(orderId, amount);
+        if (payments.isPaySuccessYN()) {
+            throw ErrorCode.PAYMENTS_ALREADY_APPROVED.commonException();
+        }
+
+        // 결제창을 연 사이 만료/취소되었으면 승인하지 않음 (행 잠금으로 만료 처리와 겹치지 않게 함)
+        Reservation reservation = reservationRepository.findByIdForUpdate(payments.getReservation().getReservationId())
+                .orElseThrow(ErrorCode.RESERVATION_NOT_FOUND::commonException);
+        validatePayableState(reservation.getReservationState());
+
+        payments.markConfirmRequested(paymentKey, LocalDateTime.now());
+    }
+
+    /**
+     * 승인 확정: 예약이 아직 ON_HOLD 이면 ACTIVE 로 바꾸고 알림을 보냄, 확정 직전의 예약 상태를 반환
+     */
+    private ReservationState confirmPayment(String paymentKey, String orderId, Long amount) {
+        Payments payments = verifyPayment(orderId, amount);
+        Reservation reservation = reservationRepository.findByIdForUpdate(payments.getReservation().getReservationId())
+                .orElseThrow(ErrorCode.RESERVATION_NOT_FOUND::commonException);
+        ReservationState state = reservation.getReservationState();
+        if (state != ReservationState.ON_HOLD) {
+            payments.changeCancelYN(true);
+            payments.changeCancelReason("예약 상태 변경으로 인한 자동 취소");
+            return state;
+        }
 
         Member member = reservation.getMember();
         Workplace workPlace = reservation.getStudyRoom().getWorkPlace();
@@ -108,8 +153,9 @@ public class PaymentsService {
         } catch (Exception e){
             throw ErrorCode.PAYMENTS_PROCESS_FAILED.commonException();
         }
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation));
 
-        return result;
+        return state;
     }
 
     public void alrim( Workplace workplace, Reservation  reservation, String content, Long price) {
@@ -172,16 +218,14 @@ public class PaymentsService {
     /**
      * (토스)결제 승인 요청
      */
-    @Transactional
     public PaymentsResponse requestPaymentAccept(String paymentKey, String orderId, Long amount) {
-        RestTemplate restTemplate = new RestTemplate();
         HttpHeaders headers = getHeaders();
         JSONObject params = new JSONObject();
         params.put("paymentKey", paymentKey);
         params.put("orderId", orderId);
         params.put("amount", amount);
 
-            return restTemplate.postForObject(PaymentsConfig.URL+"/confirm",
+            return tossRestTemplate.postForObject(PaymentsConfig.URL+"/confirm",
                     new HttpEntity<>(params, headers),
                     PaymentsResponse.class);
     }
@@ -204,6 +248,7 @@ public class PaymentsService {
         } catch (Exception e){
             throw ErrorCode.PAYMENTS_FAILED.commonException();
         }
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation));
 
         return PaymentsFailResponse.builder()
                 .errorCode(code)
@@ -238,6 +283,7 @@ public class PaymentsService {
         } catch (Exception e){
             throw ErrorCode.PAYMENTS_CANCEL_FAILED.commonException();
         }
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation));
 
         return tossPaymentCancel(paymentKey,cancelReason,totalAmount);
     }
@@ -246,13 +292,12 @@ public class PaymentsService {
      * (토스)결제 취소 요청
      */
     public Map tossPaymentCancel(String paymentKey, String cancelReason, Long cancelAmount) {
-        RestTemplate restTemplate = new RestTemplate();
         HttpHeaders headers = getHeaders();
         JSONObject params = new JSONObject();
         params.put("cancelReason", cancelReason);
         params.put("cancelAmount", cancelAmount);
 
-        return restTemplate.postForObject(PaymentsConfig.URL +"/"+paymentKey+ "/cancel",
+        return tossRestTemplate.postForObject(PaymentsConfig.URL +"/"+paymentKey+ "/cancel",
                 new HttpEntity<>(params, headers),
                 Map.class);
     }
@@ -267,9 +312,7 @@ public class PaymentsService {
                 .orElseThrow(ErrorCode.RESERVATION_NOT_FOUND::commonException);
 
         // 예약 상태 검증
-        if(reservation.getReservationState().equals(ReservationState.COMPLETED)){
-            throw ErrorCode.RESERVATION_ALREADY_COMPLETED.commonException();
-        }
+        validatePayableState(reservation.getReservationState());
 
         // 결제 금액 검증
         if (paymentRequest.totalAmount() < 1000) {
@@ -277,6 +320,20 @@ public class PaymentsService {
         }
     }
 
+    /**
+     * 결제 대기(ON_HOLD) 상태만 결제 가능, 나머지는 상태별 오류
+     */
+    private void validatePayableState(ReservationState state) {
+        switch (state) {
+            case ON_HOLD -> { }
+            case ACTIVE -> throw ErrorCode.PAYMENTS_ALREADY_APPROVED.commonException();
+            case COMPLETED -> throw ErrorCode.RESERVATION_ALREADY_COMPLETED.commonException();
+            case CANCELLED -> throw ErrorCode.RESERVATION_ALREADY_CANCELLED.commonException();
+            case PAYMENT_FAIL -> throw ErrorCode.RESERVATION_PAYMENT_FAILED.commonException();
+            case EXPIRED -> throw ErrorCode.RESERVATION_EXPIRED.commonException();
+        }
+    }
+
     /**
      * 결제 요청된 금액과 실제 결제된 금액이 같은지 검증
      */
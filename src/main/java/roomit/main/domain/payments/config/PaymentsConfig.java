@@ -1,8 +1,12 @@
 package roomit.main.domain.payments.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
 
 @Configuration
 @Getter
@@ -20,5 +24,20 @@ public class PaymentsConfig {
     @Value("${payment.toss.fail_url}")
     private String failUrl;
 
+    // 토스 응답이 늦어도 요청 스레드가 무기한 묶이지 않도록 제한 (결제 대기 유예 시간보다 충분히 짧게)
+    @Value("${payment.toss.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${payment.toss.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
     public static final String URL = "https://api.tosspayments.com/v1/payments";
+
+    @Bean
+    public RestTemplate tossRestTemplate(RestTemplateBuilder builder) {
+        return builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
 }
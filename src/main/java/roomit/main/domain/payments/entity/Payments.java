@@ -66,6 +66,9 @@ public class Payments {
     @CreatedDate
     private LocalDateTime createdAt;
 
+    @Column(name = "confirm_requested_at")
+    private LocalDateTime confirmRequestedAt; // 토스 승인 요청 시각
+
     @Builder
     public Payments(String orderId,
                     String orderName,
@@ -113,6 +116,11 @@ public class Payments {
         this.tossPaymentsKey = tossPaymentsKey;
     }
 
+    public void markConfirmRequested(String tossPaymentsKey, LocalDateTime requestedAt) {
+        this.tossPaymentsKey = tossPaymentsKey;
+        this.confirmRequestedAt = requestedAt;
+    }
+
     public void changePaySuccessYN(boolean paySuccessYN) {
         this.paySuccessYN = paySuccessYN;
     }
@@ -2,10 +2,11 @@ package roomit.main.domain.reservation.controller;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import java.time.LocalDate;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,14 +15,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import roomit.main.domain.business.dto.CustomBusinessDetails;
 import roomit.main.domain.member.dto.CustomMemberDetails;
 import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
 import roomit.main.domain.reservation.dto.request.UpdateReservationRequest;
+import roomit.main.domain.reservation.dto.response.BusinessDashboardResponse;
 import roomit.main.domain.reservation.dto.response.MyWorkPlaceReservationResponse;
+import roomit.main.domain.reservation.dto.response.ReservationPageResponse;
 import roomit.main.domain.reservation.dto.response.ReservationResponse;
+import roomit.main.domain.reservation.service.BusinessReservationDashboardService;
 import roomit.main.domain.reservation.service.ReservationService;
 
 
@@ -30,6 +35,7 @@ import roomit.main.domain.reservation.service.ReservationService;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final BusinessReservationDashboardService businessReservationDashboardService;
 
     // 예약 만들기
     @ResponseStatus(HttpStatus.CREATED)
@@ -56,17 +62,30 @@ public class ReservationController {
         return reservationService.findByMemberId(customMemberDetails.getId());
     }
 
-    // 나의 예약 모두 조회
+    // 나의 예약 최근순 조회 (cursor 는 이전 응답의 nextCursor)
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/api/v1/all/reservations/member")
-    public List<ReservationResponse> findReservationsByMemberId(@AuthenticationPrincipal CustomMemberDetails customMemberDetails) {
-        return reservationService.findReservationsByMemberId(customMemberDetails.getId());
+    public ReservationPageResponse<ReservationResponse> findReservationsByMemberId(@AuthenticationPrincipal CustomMemberDetails customMemberDetails,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "10") int size) {
+        return reservationService.findReservationsByMemberId(customMemberDetails.getId(), cursor, size);
     }
 
-    // 특정 사업장의 예약 찾기
+    // 특정 사업장의 예약 찾기 (cursor 는 이전 응답의 nextCursor)
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/api/v1/reservations/all/workplace")
-    public List<MyWorkPlaceReservationResponse> findReservationByWorkplaceId(@AuthenticationPrincipal CustomBusinessDetails customBusinessDetails) {
-        return reservationService.findReservationByWorkplaceId(customBusinessDetails.getId());
+    public ReservationPageResponse<MyWorkPlaceReservationResponse> findReservationByWorkplaceId(@AuthenticationPrincipal CustomBusinessDetails customBusinessDetails,
+                                                                                              @RequestParam(required = false) String cursor,
+                                                                                              @RequestParam(defaultValue = "20") int size) {
+        return reservationService.findReservationByWorkplaceId(customBusinessDetails.getId(), cursor, size);
+    }
+
+    // 사업자 대시보드 - 하루치 스터디룸별 예약 수/매출/이용률 (date 를 생략하면 오늘)
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/api/v1/reservations/dashboard")
+    public BusinessDashboardResponse getBusinessDashboard(@AuthenticationPrincipal CustomBusinessDetails customBusinessDetails,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return businessReservationDashboardService.getDashboard(customBusinessDetails.getId(),
+            date == null ? LocalDate.now() : date);
     }
 }
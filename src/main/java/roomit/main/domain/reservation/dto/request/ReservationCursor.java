@@ -0,0 +1,35 @@
+package roomit.main.domain.reservation.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import roomit.main.global.error.ErrorCode;
+
+/**
+ * 최근순 예약 목록의 다음 페이지 위치 (마지막 예약의 created_at, reservation_id)
+ * 클라이언트에는 불투명한 문자열 토큰으로 전달
+ */
+public record ReservationCursor(
+        LocalDateTime createdAt,
+        long reservationId
+) {
+    // 첫 페이지: 모든 예약이 이 위치보다 앞(과거)에 있음 (MySQL DATETIME 최댓값)
+    public static final ReservationCursor FIRST = new ReservationCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static ReservationCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            return new ReservationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw ErrorCode.RESERVATION_INVALID_CURSOR.commonException();
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + reservationId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,19 @@
+package roomit.main.domain.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.util.List;
+
+public record BusinessDashboardResponse(
+    @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+    int bookingCount,
+    long revenue,
+    List<StudyRoomDailyStatResponse> studyRooms
+) {
+    public static BusinessDashboardResponse of(LocalDate date, List<StudyRoomDailyStatResponse> studyRooms) {
+        return new BusinessDashboardResponse(date,
+            studyRooms.stream().mapToInt(StudyRoomDailyStatResponse::bookingCount).sum(),
+            studyRooms.stream().mapToLong(StudyRoomDailyStatResponse::revenue).sum(),
+            studyRooms);
+    }
+}
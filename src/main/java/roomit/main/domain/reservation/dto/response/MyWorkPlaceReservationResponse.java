@@ -2,13 +2,9 @@ package roomit.main.domain.reservation.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
-import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.BusinessReservationFeed;
 import roomit.main.domain.reservation.entity.ReservationState;
-import roomit.main.domain.reservation.entity.value.ReservationNum;
-import roomit.main.domain.studyroom.entity.StudyRoom;
-import roomit.main.domain.workplace.entity.Workplace;
-import roomit.main.domain.workplace.entity.value.WorkplaceName;
-import roomit.main.global.service.FileLocationService;
+import roomit.main.domain.reservation.repository.search.ReservationSummary;
 
 public record MyWorkPlaceReservationResponse (
     String  workplaceName,
@@ -26,22 +22,41 @@ public record MyWorkPlaceReservationResponse (
     ReservationState reservationState
     // LocalDateTime paymentCreatedAt
 ) {
-    public static MyWorkPlaceReservationResponse from(StudyRoom studyRoom, Reservation reservation, Workplace workplace, FileLocationService fileLocationService) {
+    // 예약/스터디룸/사업장 projection 과 미리 조회해 둔 대표 이미지로 생성
+    public static MyWorkPlaceReservationResponse from(ReservationSummary summary, String workplaceImageUrl) {
         return new MyWorkPlaceReservationResponse(
-                workplace.getWorkplaceName().getValue(),
-                reservation.getReservationName().getValue(),
-                reservation.getReservationPhoneNumber().getValue(),
-                studyRoom.getStudyRoomName().getValue(),
-                reservation.getCreatedAt(),
-                reservation.getStartTime(),
-                reservation.getEndTime(),
-                reservation.getReservationCapacity(),
-                fileLocationService.getImagesFromFolder(workplace.getImageUrl().getValue()).get(0),
-                workplace.getWorkplaceId(),
-                reservation.getReservationId(),
-                reservation.getReservationPrice(),
-                reservation.getReservationState()
+                summary.workplaceName(),
+                summary.reservationName(),
+                summary.reservationPhoneNumber(),
+                summary.studyRoomName(),
+                summary.createdAt(),
+                summary.startTime(),
+                summary.endTime(),
+                summary.reservationCapacity(),
+                workplaceImageUrl,
+                summary.workplaceId(),
+                summary.reservationId(),
+                summary.reservationPrice(),
+                summary.reservationState()
                 //payment.getCreatedAt()
                 );
     }
-}
\ No newline at end of file
+
+    // 사업자 대시보드 목록 행으로 생성 (reservation.dashboard.feed.enabled=true)
+    public static MyWorkPlaceReservationResponse from(BusinessReservationFeed feed, String workplaceImageUrl) {
+        return new MyWorkPlaceReservationResponse(
+                feed.getWorkplaceName(),
+                feed.getReservationName(),
+                feed.getReservationPhoneNumber(),
+                feed.getStudyRoomName(),
+                feed.getReservationCreatedAt(),
+                feed.getStartTime(),
+                feed.getEndTime(),
+                feed.getReservationCapacity(),
+                workplaceImageUrl,
+                feed.getWorkplaceId(),
+                feed.getReservationId(),
+                feed.getReservationPrice(),
+                feed.getReservationState());
+    }
+}
@@ -0,0 +1,13 @@
+package roomit.main.domain.reservation.dto.response;
+
+import java.util.List;
+
+/**
+ * 최근순 예약 목록 한 페이지
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record ReservationPageResponse<T>(
+        List<T> reservations,
+        String nextCursor
+) {
+}
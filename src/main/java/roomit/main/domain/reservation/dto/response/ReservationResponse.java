@@ -2,11 +2,8 @@ package roomit.main.domain.reservation.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
-import roomit.main.domain.reservation.entity.Reservation;
 import roomit.main.domain.reservation.entity.ReservationState;
-import roomit.main.domain.studyroom.entity.StudyRoom;
-import roomit.main.domain.workplace.entity.Workplace;
-import roomit.main.global.service.FileLocationService;
+import roomit.main.domain.reservation.repository.search.ReservationSummary;
 
 public record ReservationResponse (
         Long reservationId,
@@ -23,20 +20,21 @@ public record ReservationResponse (
         ReservationState state
         // LocalDateTime paymentCreatedAt
 ){
-    public static ReservationResponse from(StudyRoom studyRoom , Reservation reservation, Workplace workplace, FileLocationService fileLocationService) {
+    // 예약/스터디룸/사업장 projection 과 미리 조회해 둔 대표 이미지로 생성
+    public static ReservationResponse from(ReservationSummary summary, String workplaceImageUrl) {
         return new ReservationResponse(
-                reservation.getReservationId(),
-                workplace.getWorkplaceId(),
-                workplace.getWorkplaceName().getValue(),
-                fileLocationService.getImagesFromFolder(workplace.getImageUrl().getValue()).get(0),
-                studyRoom.getStudyRoomName().getValue(),
-                reservation.getCreatedAt(),
-                reservation.getStartTime(),
-                reservation.getEndTime(),
-                reservation.getReservationCapacity(),
-                reservation.getReservationPrice(),
-                reservation.getReview() != null,
-                reservation.getReservationState()
+                summary.reservationId(),
+                summary.workplaceId(),
+                summary.workplaceName(),
+                workplaceImageUrl,
+                summary.studyRoomName(),
+                summary.createdAt(),
+                summary.startTime(),
+                summary.endTime(),
+                summary.reservationCapacity(),
+                summary.reservationPrice(),
+                summary.existReview(),
+                summary.reservationState()
 
                 // payment.getCreatedAt()
         );
@@ -0,0 +1,13 @@
+package roomit.main.domain.reservation.dto.response;
+
+public record StudyRoomDailyStatResponse(
+    Long studyRoomId,
+    String studyRoomName,
+    String workplaceName,
+    int bookingCount,
+    long revenue,
+    int bookedMinutes,
+    // 운영 시간 대비 예약된 시간 비율 (0.0 ~ 1.0)
+    double occupancyRate
+) {
+}
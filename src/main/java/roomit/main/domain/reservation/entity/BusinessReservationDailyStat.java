@@ -0,0 +1,51 @@
+package roomit.main.domain.reservation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사업자 대시보드용 스터디룸별 일 단위 누적 집계 (결제 완료된 ACTIVE/COMPLETED 예약만 포함)
+ * 예약 상태가 바뀔 때마다 증감분만 upsert 하고, (business_id, stat_date, studyroom_id) 유니크 키로 하루치를 한 번에 읽는다
+ */
+@Table(name = "business_reservation_daily_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_business_reservation_daily_stat",
+                columnNames = {"business_id", "stat_date", "studyroom_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class BusinessReservationDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id", updatable = false, columnDefinition = "BIGINT")
+    private Long statId;
+
+    @Column(name = "business_id", nullable = false, updatable = false, columnDefinition = "BIGINT")
+    private Long businessId;
+
+    @Column(name = "studyroom_id", nullable = false, updatable = false, columnDefinition = "BIGINT")
+    private Long studyRoomId;
+
+    @Column(name = "stat_date", nullable = false, updatable = false)
+    private LocalDate statDate;
+
+    // 이 날 시작하는 예약 수와 결제 금액
+    @Column(name = "booking_count", nullable = false)
+    private Integer bookingCount;
+
+    @Column(name = "revenue", nullable = false, columnDefinition = "BIGINT")
+    private Long revenue;
+
+    // 이 날에 걸친 예약 시간 (자정을 넘는 예약은 날짜별로 나눠 더한다)
+    @Column(name = "booked_minutes", nullable = false)
+    private Integer bookedMinutes;
+}
@@ -0,0 +1,113 @@
+package roomit.main.domain.reservation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.workplace.entity.Workplace;
+
+/**
+ * 사업자별 예약 목록 조회용 비정규화 테이블 (예약 1건당 1행)
+ * 예약 상태 변경 이벤트로 갱신되며, (business_id, reservation_created_at, reservation_id) 인덱스 하나로 목록을 읽는다
+ */
+@Table(name = "business_reservation_feed",
+        uniqueConstraints = @UniqueConstraint(name = "uk_business_reservation_feed_reservation",
+                columnNames = "reservation_id"),
+        indexes = @Index(name = "idx_business_reservation_feed_business_created_at",
+                columnList = "business_id, reservation_created_at, reservation_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class BusinessReservationFeed {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "feed_id", updatable = false, columnDefinition = "BIGINT")
+    private Long feedId;
+
+    @Column(name = "reservation_id", nullable = false, updatable = false, columnDefinition = "BIGINT")
+    private Long reservationId;
+
+    @Column(name = "business_id", nullable = false, columnDefinition = "BIGINT")
+    private Long businessId;
+
+    @Column(name = "workplace_id", nullable = false, columnDefinition = "BIGINT")
+    private Long workplaceId;
+
+    @Column(name = "workplace_name", nullable = false)
+    private String workplaceName;
+
+    // 사업장 이미지 폴더 URL (대표 이미지는 조회 시 폴더 단위 캐시로 찾는다)
+    @Column(name = "workplace_image_url")
+    private String workplaceImageUrl;
+
+    @Column(name = "studyroom_id", nullable = false, columnDefinition = "BIGINT")
+    private Long studyRoomId;
+
+    @Column(name = "studyroom_name", nullable = false)
+    private String studyRoomName;
+
+    @Column(name = "reservation_name", nullable = false)
+    private String reservationName;
+
+    @Column(name = "reservation_phone_number", nullable = false)
+    private String reservationPhoneNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_state", nullable = false)
+    private ReservationState reservationState;
+
+    @Column(name = "reservation_capacity", nullable = false)
+    private Integer reservationCapacity;
+
+    @Column(name = "reservation_price", nullable = false)
+    private Integer reservationPrice;
+
+    @Column(name = "reservation_created_at", nullable = false)
+    private LocalDateTime reservationCreatedAt;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    private BusinessReservationFeed(Reservation reservation, StudyRoom studyRoom, Workplace workplace) {
+        this.reservationId = reservation.getReservationId();
+        this.businessId = workplace.getBusiness().getBusinessId();
+        this.workplaceId = workplace.getWorkplaceId();
+        this.workplaceName = workplace.getWorkplaceName().getValue();
+        this.workplaceImageUrl = workplace.getImageUrl() == null ? null : workplace.getImageUrl().getValue();
+        this.studyRoomId = studyRoom.getStudyRoomId();
+        this.studyRoomName = studyRoom.getStudyRoomName().getValue();
+        this.reservationName = reservation.getReservationName().getValue();
+        this.reservationPhoneNumber = reservation.getReservationPhoneNumber().getValue();
+        this.reservationState = reservation.getReservationState();
+        this.reservationCapacity = reservation.getReservationCapacity();
+        this.reservationPrice = reservation.getReservationPrice();
+        this.reservationCreatedAt = reservation.getCreatedAt();
+        this.startTime = reservation.getStartTime();
+        this.endTime = reservation.getEndTime();
+    }
+
+    // 예약은 스터디룸/사업장/사업자가 함께 조회된 상태여야 한다
+    public static BusinessReservationFeed from(Reservation reservation) {
+        StudyRoom studyRoom = reservation.getStudyRoom();
+        return new BusinessReservationFeed(reservation, studyRoom, studyRoom.getWorkPlace());
+    }
+
+    public void changeReservationState(ReservationState reservationState) {
+        this.reservationState = reservationState;
+    }
+}
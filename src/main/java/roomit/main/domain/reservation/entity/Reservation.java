@@ -2,6 +2,7 @@ package roomit.main.domain.reservation.entity;
 
 import jakarta.persistence.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,12 +18,25 @@ import roomit.main.domain.studyroom.entity.value.BaseEntity;
 
 @Table(name = "Reservation", indexes = {
         @Index(name = "idx_reservation_created_at",
-                columnList = "created_at")})
+                columnList = "created_at"),
+        @Index(name = "idx_reservation_updated_at",
+                columnList = "updated_at"),
+        @Index(name = "idx_reservation_studyroom_start_time",
+                columnList = "studyroom_id, start_time"),
+        @Index(name = "idx_reservation_studyroom_time_state",
+                columnList = "studyroom_id, start_time, end_time, reservation_state"),
+        @Index(name = "idx_reservation_state_created_at",
+                columnList = "reservation_state, created_at"),
+        @Index(name = "idx_reservation_member_created_at",
+                columnList = "member_id, created_at, reservation_id")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
 public class Reservation extends BaseEntity{
 
+    // 한 예약의 최대 이용 시간 (기간 조회는 시작 시각을 from - MAX_DURATION 까지만 범위 조회함)
+    public static final Duration MAX_DURATION = Duration.ofHours(24);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "reservation_id", unique = true, updatable = false, columnDefinition = "BIGINT")
@@ -0,0 +1,42 @@
+package roomit.main.domain.reservation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약이 차지하는 30분 단위 시간 칸
+ * (studyroom_id, slot_start) 유니크 키로 같은 칸의 이중 예약을 DB 가 막는다 (reservation.booking.mode=slot)
+ */
+@Table(name = "reservation_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_slot_studyroom_slot_start",
+                columnNames = {"studyroom_id", "slot_start"}),
+        indexes = @Index(name = "idx_reservation_slot_reservation", columnList = "reservation_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class ReservationSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id", updatable = false, columnDefinition = "BIGINT")
+    private Long slotId;
+
+    @Column(name = "studyroom_id", nullable = false, updatable = false, columnDefinition = "BIGINT")
+    private Long studyRoomId;
+
+    @Column(name = "slot_start", nullable = false, updatable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "reservation_id", nullable = false, updatable = false, columnDefinition = "BIGINT")
+    private Long reservationId;
+}
@@ -1,5 +1,6 @@
 package roomit.main.domain.reservation.entity;
 
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,8 +11,16 @@ public enum ReservationState {
     ON_HOLD("예약 대기"),
     CANCELLED("예약 취소"),
     COMPLETED("예약 완료"),
-    ACTIVE("활성");
+    ACTIVE("활성"),
+    EXPIRED("결제 시간 만료");
 
     private final String description;
 
+    // 시간대를 차지하는 상태 (취소/결제 실패는 다시 예약 가능)
+    public static final List<ReservationState> OCCUPYING = List.of(ON_HOLD, ACTIVE, COMPLETED);
+
+    public boolean occupiesSlot() {
+        return OCCUPYING.contains(this);
+    }
+
 }
@@ -0,0 +1,30 @@
+package roomit.main.domain.reservation.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import roomit.main.domain.reservation.entity.BusinessReservationDailyStat;
+
+public interface BusinessReservationDailyStatRepository extends JpaRepository<BusinessReservationDailyStat, Long> {
+
+    // 사업자의 하루치 스터디룸별 집계 (business_id, stat_date, studyroom_id 유니크 키 범위 조회)
+    List<BusinessReservationDailyStat> findByBusinessIdAndStatDate(Long businessId, LocalDate statDate);
+
+    // 집계 증감분 반영, 행이 없으면 만든다 (동시에 같은 날짜를 갱신해도 행 단위 원자적 증가)
+    @Modifying
+    @Query(value = """
+        INSERT INTO business_reservation_daily_stat
+            (business_id, studyroom_id, stat_date, booking_count, revenue, booked_minutes)
+        VALUES (:businessId, :studyRoomId, :statDate, :bookingCount, :revenue, :bookedMinutes)
+        ON DUPLICATE KEY UPDATE
+            booking_count = booking_count + :bookingCount,
+            revenue = revenue + :revenue,
+            booked_minutes = booked_minutes + :bookedMinutes
+        """, nativeQuery = true)
+    void addStat(@Param("businessId") Long businessId, @Param("studyRoomId") Long studyRoomId,
+        @Param("statDate") LocalDate statDate, @Param("bookingCount") int bookingCount,
+        @Param("revenue") long revenue, @Param("bookedMinutes") int bookedMinutes);
+}
@@ -0,0 +1,30 @@
+package roomit.main.domain.reservation.repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import roomit.main.domain.reservation.entity.BusinessReservationFeed;
+
+public interface BusinessReservationFeedRepository extends JpaRepository<BusinessReservationFeed, Long> {
+
+    // 같은 예약의 상태 변경이 동시에 반영되지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BusinessReservationFeed> findByReservationId(Long reservationId);
+
+    // 사업자의 예약 최근순 커서 조회 (business_id, reservation_created_at, reservation_id 인덱스 범위 조회)
+    @Query("""
+        SELECT f FROM BusinessReservationFeed f
+        WHERE f.businessId = :businessId
+          AND (f.reservationCreatedAt < :createdAt
+               OR (f.reservationCreatedAt = :createdAt AND f.reservationId < :reservationId))
+        ORDER BY f.reservationCreatedAt DESC, f.reservationId DESC
+        """)
+    List<BusinessReservationFeed> findPageByBusinessId(@Param("businessId") Long businessId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("reservationId") Long reservationId, Pageable pageable);
+}
@@ -1,31 +1,27 @@
 package roomit.main.domain.reservation.repository;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import roomit.main.domain.reservation.entity.Reservation;
 import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.search.SearchReservation;
 
-public interface ReservationRepository extends JpaRepository<Reservation,Long> {
+public interface ReservationRepository extends JpaRepository<Reservation,Long>, SearchReservation {
 
     @Query("SELECT r FROM Reservation r JOIN FETCH r.member WHERE r.reservationId = :id")
     Optional<Reservation> findByIdWithMember(@Param("id") Long id);
 
-    Reservation findTopByMemberMemberIdOrderByCreatedAtDesc(Long memberId);
-
-    // 내 최근순으로 예약 리스트 출력
-    @Query("SELECT r FROM Reservation r WHERE r.member.memberId = :memberId ORDER BY  r.createdAt DESC")
-    List<Reservation> findReservationsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
-
-    // 내 작업장의 예약 리스트 출력 // Reservation createdAt 인덱싱 추가, Business businessId 인덱싱 추가
-    @Query("SELECT r FROM Reservation r JOIN r.studyRoom sr JOIN sr.workPlace wp JOIN wp.business m WHERE m.businessId = :businessId ORDER BY r.createdAt DESC")
-    List<Reservation> findMyAllReservations(@Param("businessId") Long businessId);
-
     // 예약 ID와 회원 ID로 가장 최근 예약 하나 조회
     @Query("SELECT r FROM Reservation r WHERE r.reservationId = :reservationId AND r.member.memberId = :memberId")
     Optional<Reservation> findFirstByIdAndMemberId(@Param("reservationId") Long reservationId, @Param("memberId") Long memberId);
@@ -34,6 +30,96 @@ public interface ReservationRepository extends JpaRepository<Reservation,Long> {
     @Query("SELECT r FROM Reservation r WHERE r.studyRoom.studyRoomId = :studyRoomId AND FUNCTION('DATE', r.startTime) = :date")
     List<Reservation> findReservationsByStudyRoomAndDate(@Param("studyRoomId") Long studyRoomId, @Param("date") LocalDate date);
 
-    List<Reservation> findByReservationState(ReservationState reservationState);
-}
+    // 시간대 [startTime, endTime) 과 겹치는 예약 존재 여부 (studyroom_id, start_time, end_time, state 인덱스 사용)
+    boolean existsByStudyRoomStudyRoomIdAndStartTimeBeforeAndEndTimeAfterAndReservationStateIn(
+        Long studyRoomId, LocalDateTime endTime, LocalDateTime startTime, Collection<ReservationState> states);
+
+    // 기간 [from, to) 과 겹치는 예약 (start_time 범위 조건으로 인덱스 사용)
+    @Query("""
+        SELECT r FROM Reservation r
+        WHERE r.studyRoom.studyRoomId = :studyRoomId
+          AND r.startTime < :to AND r.endTime > :from
+          AND r.reservationState IN :states
+        """)
+    List<Reservation> findOverlappingReservations(@Param("studyRoomId") Long studyRoomId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to,
+                                                  @Param("states") Collection<ReservationState> states);
+
+    // 여러 스터디룸의 기간 [from, to) 예약 (studyroom_id, start_time) 인덱스 범위 조회
+    // scanFrom 은 from 이전에 시작해 기간 안으로 이어지는 예약까지 포함하기 위한 하한: from - Reservation.MAX_DURATION
+    // 예약 길이는 ReservationService.validateReservation 에서 MAX_DURATION 이하로 제한되므로 이보다 먼저 시작한 예약은 from 전에 끝남
+    @Query("""
+        SELECT r FROM Reservation r
+        WHERE r.studyRoom.studyRoomId IN :studyRoomIds
+          AND r.startTime >= :scanFrom AND r.startTime < :to
+          AND r.endTime > :from
+          AND r.reservationState IN :states
+        """)
+    List<Reservation> findOverlappingReservationsByStudyRooms(@Param("studyRoomIds") Collection<Long> studyRoomIds,
+                                                              @Param("scanFrom") LocalDateTime scanFrom,
+                                                              @Param("from") LocalDateTime from,
+                                                              @Param("to") LocalDateTime to,
+                                                              @Param("states") Collection<ReservationState> states);
+
+    // 이용 시간이 끝난 예약 (이용 완료 처리용)
+    List<Reservation> findByReservationStateAndEndTimeBefore(ReservationState reservationState, LocalDateTime endTime);
+
+    // 결제 대기 시간이 지난 예약 (reservation_state, created_at 인덱스 사용), 만료 처리 전까지 행 잠금
+    // paymentCutoff 이후 결제창을 열었거나 토스 승인을 요청한 예약은 승인 중일 수 있으므로 제외
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r FROM Reservation r
+        WHERE r.reservationState = :state AND r.createdAt < :cutoff
+          AND NOT EXISTS (
+            SELECT p FROM Payments p
+            WHERE p.reservation = r
+              AND (p.createdAt >= :paymentCutoff OR p.confirmRequestedAt >= :paymentCutoff)
+          )
+        ORDER BY r.createdAt
+        """)
+    List<Reservation> findStaleReservations(@Param("state") ReservationState state,
+        @Param("cutoff") LocalDateTime cutoff, @Param("paymentCutoff") LocalDateTime paymentCutoff,
+        Pageable pageable);
 
+    // 결제 승인 전 상태 확인용, 만료 처리와 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.reservationId = :reservationId")
+    Optional<Reservation> findByIdForUpdate(@Param("reservationId") Long reservationId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Reservation r SET r.reservationState = :to, r.updatedAt = :now
+        WHERE r.reservationId IN :ids AND r.reservationState = :from
+        """)
+    int changeReservationStates(@Param("ids") Collection<Long> ids, @Param("from") ReservationState from,
+        @Param("to") ReservationState to, @Param("now") LocalDateTime now);
+
+    // 아직 끝나지 않은 예약 (Redis 선점 정합성 복구용)
+    List<Reservation> findByReservationStateInAndEndTimeAfter(Collection<ReservationState> states, LocalDateTime now);
+
+    // 사업자 대시보드 행을 만들기 위한 예약 + 스터디룸/사업장/사업자 조회 (사업자가 없는 사업장의 예약은 제외)
+    @Query("""
+        SELECT r FROM Reservation r
+        JOIN FETCH r.studyRoom sr JOIN FETCH sr.workPlace wp JOIN FETCH wp.business
+        LEFT JOIN FETCH r.review LEFT JOIN FETCH r.payments
+        WHERE r.reservationId = :reservationId
+        """)
+    Optional<Reservation> findWithWorkplaceById(@Param("reservationId") Long reservationId);
+
+    @Query("""
+        SELECT r FROM Reservation r
+        JOIN FETCH r.studyRoom sr JOIN FETCH sr.workPlace wp JOIN FETCH wp.business
+        LEFT JOIN FETCH r.review LEFT JOIN FETCH r.payments
+        WHERE r.reservationId > :lastId
+        ORDER BY r.reservationId
+        """)
+    List<Reservation> findWithWorkplaceAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT r.reservationState FROM Reservation r WHERE r.reservationId = :reservationId")
+    Optional<ReservationState> findStateById(@Param("reservationId") Long reservationId);
+
+    // 최근 변경된 예약 (사업자 대시보드 정합성 복구용, updated_at 인덱스 범위 조회)
+    @Query("SELECT r.reservationId FROM Reservation r WHERE r.updatedAt >= :since ORDER BY r.reservationId")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,16 @@
+package roomit.main.domain.reservation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import roomit.main.domain.reservation.entity.ReservationSlot;
+import roomit.main.domain.reservation.repository.slot.ReservationSlotBatch;
+
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long>, ReservationSlotBatch {
+
+    // 취소/결제 실패 등으로 예약이 시간대를 비우면 칸도 반납
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+}
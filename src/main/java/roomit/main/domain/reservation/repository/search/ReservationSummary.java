@@ -0,0 +1,27 @@
+package roomit.main.domain.reservation.repository.search;
+
+import java.time.LocalDateTime;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.global.inner.ImageUrl;
+
+/**
+ * 예약 목록 응답에 필요한 예약/스터디룸/사업장 컬럼 (한 번의 조회로 만드는 projection)
+ */
+public record ReservationSummary(
+    Long reservationId,
+    String reservationName,
+    String reservationPhoneNumber,
+    ReservationState reservationState,
+    Integer reservationCapacity,
+    Integer reservationPrice,
+    LocalDateTime createdAt,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    Boolean existReview,
+    String studyRoomName,
+    Long workplaceId,
+    String workplaceName,
+    ImageUrl workplaceImageUrl
+) {
+
+}
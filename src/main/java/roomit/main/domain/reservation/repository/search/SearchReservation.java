@@ -0,0 +1,17 @@
+package roomit.main.domain.reservation.repository.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SearchReservation {
+
+  // 회원의 가장 최근 예약
+  Optional<ReservationSummary> findLatestSummaryByMemberId(Long memberId);
+
+  // 회원의 예약 최근순, (createdAt, reservationId) 이후 limit 건
+  List<ReservationSummary> findSummariesByMemberId(Long memberId, LocalDateTime createdAt, Long reservationId, int limit);
+
+  // 사업자가 가진 사업장들의 예약 최근순, (createdAt, reservationId) 이후 limit 건
+  List<ReservationSummary> findSummariesByBusinessId(Long businessId, LocalDateTime createdAt, Long reservationId, int limit);
+}
@@ -0,0 +1,90 @@
+package roomit.main.domain.reservation.repository.search;
+
+import static roomit.main.domain.reservation.entity.QReservation.reservation;
+import static roomit.main.domain.review.entity.QReview.review;
+import static roomit.main.domain.studyroom.entity.QStudyRoom.studyRoom;
+import static roomit.main.domain.workplace.entity.QWorkplace.workplace;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class SearchReservationImpl implements SearchReservation {
+
+  private final JPAQueryFactory queryFactory;
+
+  public SearchReservationImpl(JPAQueryFactory queryFactory) {
+    this.queryFactory = queryFactory;
+  }
+
+  @Override
+  public Optional<ReservationSummary> findLatestSummaryByMemberId(Long memberId) {
+    return Optional.ofNullable(selectSummary()
+        .where(reservation.member.memberId.eq(memberId))
+        .orderBy(reservation.createdAt.desc(), reservation.reservationId.desc())
+        .fetchFirst());
+  }
+
+  @Override
+  public List<ReservationSummary> findSummariesByMemberId(Long memberId, LocalDateTime createdAt, Long reservationId,
+      int limit) {
+    return selectSummary()
+        .where(
+            reservation.member.memberId.eq(memberId),
+            before(createdAt, reservationId)
+        )
+        .orderBy(reservation.createdAt.desc(), reservation.reservationId.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public List<ReservationSummary> findSummariesByBusinessId(Long businessId, LocalDateTime createdAt,
+      Long reservationId, int limit) {
+    return selectSummary()
+        .where(
+            workplace.business.businessId.eq(businessId),
+            before(createdAt, reservationId)
+        )
+        .orderBy(reservation.createdAt.desc(), reservation.reservationId.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  // 예약 -> 스터디룸 -> 사업장 컬럼을 한 문장으로 조회 (엔티티 지연 로딩 없음)
+  private JPAQuery<ReservationSummary> selectSummary() {
+    return queryFactory
+        .select(Projections.constructor(ReservationSummary.class,
+            reservation.reservationId,
+            reservation.reservationName.value,
+            reservation.reservationPhoneNumber.value,
+            reservation.reservationState,
+            reservation.reservationCapacity,
+            reservation.reservationPrice,
+            reservation.createdAt,
+            reservation.startTime,
+            reservation.endTime,
+            new CaseBuilder().when(review.reviewId.isNotNull()).then(true).otherwise(false),
+            studyRoom.studyRoomName.value,
+            workplace.workplaceId,
+            workplace.workplaceName.value,
+            workplace.imageUrl))
+        .from(reservation)
+        .join(reservation.studyRoom, studyRoom)
+        .join(studyRoom.workPlace, workplace)
+        .leftJoin(reservation.review, review);
+  }
+
+  // 최근순 keyset: (createdAt, reservationId) 보다 앞선 예약
+  private BooleanExpression before(LocalDateTime createdAt, Long reservationId) {
+    return reservation.createdAt.lt(createdAt)
+        .or(reservation.createdAt.eq(createdAt).and(reservation.reservationId.lt(reservationId)));
+  }
+}
@@ -0,0 +1,13 @@
+package roomit.main.domain.reservation.repository.slot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationSlotBatch {
+
+  /**
+   * 예약의 시간 칸을 한 번의 배치로 저장
+   * 이미 차지된 칸이 있으면 유니크 키 위반으로 DuplicateKeyException
+   */
+  void insertSlots(Long reservationId, Long studyRoomId, List<LocalDateTime> slotStarts);
+}
@@ -0,0 +1,30 @@
+package roomit.main.domain.reservation.repository.slot;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ReservationSlotBatchImpl implements ReservationSlotBatch {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO reservation_slot (studyroom_id, slot_start, reservation_id) VALUES (?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ReservationSlotBatchImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // IDENTITY 키는 Hibernate 배치가 꺼지므로 JDBC 배치로 직접 저장 (같은 트랜잭션의 커넥션 사용)
+  @Override
+  public void insertSlots(Long reservationId, Long studyRoomId, List<LocalDateTime> slotStarts) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, slotStarts, slotStarts.size(), (ps, slotStart) -> {
+      ps.setLong(1, studyRoomId);
+      ps.setTimestamp(2, Timestamp.valueOf(slotStart));
+      ps.setLong(3, reservationId);
+    });
+  }
+}
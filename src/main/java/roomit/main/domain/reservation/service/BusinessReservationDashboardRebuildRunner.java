@@ -0,0 +1,29 @@
+package roomit.main.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사업자 대시보드 목록/집계를 기존 예약으로 다시 만드는 1회성 작업
+ * reservation.dashboard.rebuild=true 로 기동할 때만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.dashboard.rebuild", havingValue = "true")
+public class BusinessReservationDashboardRebuildRunner implements ApplicationRunner {
+
+    private final BusinessReservationDashboardUpdater dashboardUpdater;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        int count = dashboardUpdater.rebuild();
+        log.info("business reservation dashboard rebuild finished - {} reservations in {} ms",
+                count, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,72 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import roomit.main.domain.reservation.dto.response.BusinessDashboardResponse;
+import roomit.main.domain.reservation.dto.response.StudyRoomDailyStatResponse;
+import roomit.main.domain.reservation.entity.BusinessReservationDailyStat;
+import roomit.main.domain.reservation.repository.BusinessReservationDailyStatRepository;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.domain.studyroom.service.DailySlotMask;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.global.error.ErrorCode;
+
+@Service
+@RequiredArgsConstructor
+public class BusinessReservationDashboardService {
+
+    private final BusinessReservationDailyStatRepository statRepository;
+    private final StudyRoomRepository studyRoomRepository;
+    private final BusinessReservationDashboardUpdater dashboardUpdater;
+
+    // 하루치 스터디룸별 예약 수/매출/이용률 (미리 쌓인 집계를 읽고, 예약이 없는 스터디룸은 0으로 채움)
+    @Transactional(readOnly = true)
+    public BusinessDashboardResponse getDashboard(Long businessId, LocalDate date) {
+        // 다시 만드는 중인 집계는 일부만 채워져 있으므로 내보내지 않음
+        if (dashboardUpdater.isRebuilding()) {
+            throw ErrorCode.RESERVATION_DASHBOARD_REBUILDING.commonException();
+        }
+
+        Map<Long, BusinessReservationDailyStat> stats = statRepository.findByBusinessIdAndStatDate(businessId, date)
+            .stream()
+            .collect(Collectors.toMap(BusinessReservationDailyStat::getStudyRoomId, Function.identity()));
+
+        List<StudyRoomDailyStatResponse> studyRooms = studyRoomRepository.findWithWorkplaceByBusinessId(businessId)
+            .stream()
+            .map(studyRoom -> toResponse(studyRoom, stats.get(studyRoom.getStudyRoomId())))
+            .toList();
+
+        return BusinessDashboardResponse.of(date, studyRooms);
+    }
+
+    private StudyRoomDailyStatResponse toResponse(StudyRoom studyRoom, BusinessReservationDailyStat stat) {
+        Workplace workplace = studyRoom.getWorkPlace();
+        int bookingCount = stat == null ? 0 : stat.getBookingCount();
+        long revenue = stat == null ? 0L : stat.getRevenue();
+        int bookedMinutes = stat == null ? 0 : stat.getBookedMinutes();
+
+        return new StudyRoomDailyStatResponse(studyRoom.getStudyRoomId(), studyRoom.getStudyRoomName().getValue(),
+            workplace.getWorkplaceName().getValue(), bookingCount, revenue, bookedMinutes,
+            occupancyRate(bookedMinutes, operatingMinutes(workplace)));
+    }
+
+    private int operatingMinutes(Workplace workplace) {
+        return Long.bitCount(DailySlotMask.operatingHours(workplace.getWorkplaceStartTime(),
+            workplace.getWorkplaceEndTime())) * DailySlotMask.SLOT_MINUTES;
+    }
+
+    static double occupancyRate(int bookedMinutes, int operatingMinutes) {
+        if (operatingMinutes == 0) {
+            return 0.0;
+        }
+        double rate = Math.min(1.0, (double) bookedMinutes / operatingMinutes);
+        return Math.round(rate * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,308 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomit.main.domain.reservation.entity.BusinessReservationFeed;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.BusinessReservationDailyStatRepository;
+import roomit.main.domain.reservation.repository.BusinessReservationFeedRepository;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+
+/**
+ * 사업자 대시보드(예약 목록 행 + 스터디룸별 일 집계)를 예약 상태 변경마다 증감분으로 갱신
+ * 이전 상태는 목록 행에 저장되어 있으므로 이벤트 순서가 뒤바뀌어도 DB 의 현재 상태 기준으로 한 번만 반영된다.
+ * 갱신 실패/이벤트 유실은 최근 변경된 예약을 주기적으로 다시 반영해 바로잡고,
+ * 전체를 다시 만들 때는 reservation.dashboard.rebuild=true 로 기동한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessReservationDashboardUpdater {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 다시 만드는 동안 모든 인스턴스가 실시간 갱신과 목록/집계 조회를 멈추도록 공유하는 표시
+    static final String REBUILD_KEY = "reservation:dashboard:rebuilding";
+    // 인스턴스 간 시계 차이로 재구성 중 변경분을 놓치지 않도록 재구성 시작 시각보다 앞서부터 다시 반영
+    private static final Duration CLOCK_SKEW_MARGIN = Duration.ofMinutes(1);
+
+    private final ReservationRepository reservationRepository;
+    private final BusinessReservationFeedRepository feedRepository;
+    private final BusinessReservationDailyStatRepository statRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${reservation.dashboard.enabled:true}")
+    private boolean enabled;
+
+    // 재구성 중 인스턴스가 죽어도 표시가 남지 않도록 만료 시간을 둔다
+    @Value("${reservation.dashboard.rebuild-timeout-minutes:60}")
+    private long rebuildTimeoutMinutes;
+
+    // 예약 이벤트/목록 조회마다 Redis 를 조회하지 않도록 재구성 표시를 이 시간 동안 서버 메모리에 캐싱
+    // 재구성은 표시를 켜고 끌 때 이 시간만큼 기다려 모든 인스턴스가 바뀐 값을 본 뒤에 진행한다
+    @Value("${reservation.dashboard.rebuild-flag-cache-millis:2000}")
+    private long rebuildFlagCacheMillis;
+
+    private volatile RebuildFlag rebuildFlag = new RebuildFlag(false, 0L);
+
+    // 주기적 정합성 복구 때 다시 확인할 최근 변경 범위 (복구 주기보다 길게)
+    @Value("${reservation.dashboard.reconcile-lookback-minutes:30}")
+    private long reconcileLookbackMinutes;
+
+    // 예약 트랜잭션 커밋 후 별도 트랜잭션으로 반영 (집계 실패가 예약/결제를 되돌리지 않도록)
+    // 재구성 중에는 건너뛰고, 재구성이 끝난 뒤 그동안 변경된 예약을 한꺼번에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (isRebuilding()) {
+                return;
+            }
+            applyInNewTransaction(event.reservationId());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 예약의 첫 행을 동시에 만든 경우, 이미 생긴 행 기준으로 다시 반영
+            retry(event.reservationId(), e);
+        } catch (RuntimeException e) {
+            log.warn("사업자 대시보드 갱신 실패 - reservationId={}", event.reservationId(), e);
+        }
+    }
+
+    private void retry(Long reservationId, RuntimeException cause) {
+        try {
+            applyInNewTransaction(reservationId);
+        } catch (RuntimeException e) {
+            e.addSuppressed(cause);
+            log.warn("사업자 대시보드 갱신 실패 - reservationId={}", reservationId, e);
+        }
+    }
+
+    private boolean applyInNewTransaction(Long reservationId) {
+        return Boolean.TRUE.equals(requiresNew().execute(status -> apply(reservationId)));
+    }
+
+    // 목록 행의 상태와 DB 의 현재 상태가 다를 때만 반영 (여러 번 호출해도 결과가 같음)
+    // @return 목록/집계를 바꿨는지 여부
+    boolean apply(Long reservationId) {
+        Optional<BusinessReservationFeed> existing = feedRepository.findByReservationId(reservationId);
+        if (existing.isEmpty()) {
+            return reservationRepository.findWithWorkplaceById(reservationId).map(reservation -> {
+                BusinessReservationFeed feed = feedRepository.save(BusinessReservationFeed.from(reservation));
+                addStats(feed, weight(feed.getReservationState()));
+                return true;
+            }).orElse(false);
+        }
+
+        BusinessReservationFeed feed = existing.get();
+        ReservationState previous = feed.getReservationState();
+        ReservationState current = reservationRepository.findStateById(reservationId).orElse(previous);
+        if (previous == current) {
+            return false;
+        }
+
+        feed.changeReservationState(current);
+        addStats(feed, weight(current) - weight(previous));
+        return true;
+    }
+
+    // 목록/집계를 다시 만드는 중인지 (다른 인스턴스에서 실행 중인 경우 포함)
+    public boolean isRebuilding() {
+        RebuildFlag flag = rebuildFlag;
+        long now = System.currentTimeMillis();
+        if (now < flag.expiresAt()) {
+            return flag.rebuilding();
+        }
+        boolean rebuilding = Boolean.TRUE.equals(redisTemplate.hasKey(REBUILD_KEY));
+        rebuildFlag = new RebuildFlag(rebuilding, now + rebuildFlagCacheMillis);
+        return rebuilding;
+    }
+
+    // 다른 인스턴스의 캐싱된 재구성 표시가 만료될 때까지 대기
+    private void awaitFlagPropagation(boolean rebuilding) {
+        rebuildFlag = new RebuildFlag(rebuilding, System.currentTimeMillis() + rebuildFlagCacheMillis);
+        try {
+            Thread.sleep(rebuildFlagCacheMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이벤트 유실(갱신 실패, 배포 중 재시작 등)로 어긋난 목록/집계를 최근 변경된 예약 기준으로 바로잡는다
+     * 반영은 목록 행 잠금 아래에서 상태 차이만큼만 하므로 여러 인스턴스가 동시에 실행해도 이중 집계되지 않는다
+     */
+    @Scheduled(cron = "${reservation.dashboard.reconcile-cron:0 */10 * * * *}")
+    public void reconcile() {
+        if (!enabled || isRebuilding()) {
+            return;
+        }
+        int fixed = reconcileSince(LocalDateTime.now().minusMinutes(reconcileLookbackMinutes));
+        if (fixed > 0) {
+            log.info("사업자 대시보드 정합성 복구 - fixed={}", fixed);
+        }
+    }
+
+    private int reconcileSince(LocalDateTime since) {
+        int fixed = 0;
+        for (Long reservationId : reservationRepository.findIdsUpdatedSince(since)) {
+            try {
+                if (applyInNewTransaction(reservationId)) {
+                    fixed++;
+                }
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                log.warn("사업자 대시보드 정합성 복구 실패 - reservationId={}", reservationId, e);
+            }
+        }
+        return fixed;
+    }
+
+    /**
+     * 목록 행과 집계를 비우고 전체 예약으로 다시 만든다
+     * 그동안 모든 인스턴스의 실시간 갱신과 목록/집계 조회를 멈추고, 끝난 뒤 재구성 중 변경된 예약을 다시 반영한다
+     * @return 반영한 예약 수 (이미 다른 곳에서 실행 중이면 0)
+     */
+    public int rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(REBUILD_KEY, startedAt.toString(), Duration.ofMinutes(rebuildTimeoutMinutes)))) {
+            log.warn("사업자 대시보드를 이미 다시 만드는 중입니다");
+            return 0;
+        }
+
+        int count;
+        try {
+            // 아직 표시를 보지 못한 인스턴스가 지우는 중인 목록/집계에 반영하지 않도록 대기
+            awaitFlagPropagation(true);
+            count = rebuildAll();
+        } finally {
+            redisTemplate.delete(REBUILD_KEY);
+        }
+        awaitFlagPropagation(false);
+
+        // 표시를 지우고 모든 인스턴스가 본 뒤에 조회해야 재구성 중 건너뛴 이벤트를 빠짐없이 포함한다 (이후 변경은 실시간 갱신이 반영)
+        int fixed = reconcileSince(startedAt.minus(CLOCK_SKEW_MARGIN));
+        log.info("사업자 대시보드 재구성 중 변경분 반영 - fixed={}", fixed);
+        return count;
+    }
+
+    private int rebuildAll() {
+        requiresNew().executeWithoutResult(status -> {
+            statRepository.deleteAllInBatch();
+            feedRepository.deleteAllInBatch();
+        });
+
+        Map<StatKey, StatTotal> totals = new HashMap<>();
+        int count = 0;
+        Long lastId = 0L;
+        while (true) {
+            Long from = lastId;
+            List<BusinessReservationFeed> feeds = requiresNew().execute(status -> feedRepository.saveAll(
+                    reservationRepository.findWithWorkplaceAfter(from, PageRequest.of(0, REBUILD_BATCH_SIZE)).stream()
+                            .map(BusinessReservationFeed::from)
+                            .toList()));
+            if (feeds == null || feeds.isEmpty()) {
+                break;
+            }
+
+            for (BusinessReservationFeed feed : feeds) {
+                if (weight(feed.getReservationState()) > 0) {
+                    accumulate(totals, feed);
+                }
+            }
+            count += feeds.size();
+            lastId = feeds.get(feeds.size() - 1).getReservationId();
+        }
+
+        // 날짜/스터디룸별로 모은 합계를 한 번씩만 기록
+        List<Map.Entry<StatKey, StatTotal>> entries = new ArrayList<>(totals.entrySet());
+        for (int i = 0; i < entries.size(); i += REBUILD_BATCH_SIZE) {
+            List<Map.Entry<StatKey, StatTotal>> chunk = entries.subList(i, Math.min(i + REBUILD_BATCH_SIZE, entries.size()));
+            requiresNew().executeWithoutResult(status -> chunk.forEach(entry -> statRepository.addStat(
+                    entry.getKey().businessId(), entry.getKey().studyRoomId(), entry.getKey().statDate(),
+                    entry.getValue().bookingCount, entry.getValue().revenue, entry.getValue().bookedMinutes)));
+        }
+        return count;
+    }
+
+    // 결제가 끝난 예약만 예약 수/매출/이용 시간에 포함
+    private static int weight(ReservationState state) {
+        return (state == ReservationState.ACTIVE || state == ReservationState.COMPLETED) ? 1 : 0;
+    }
+
+    private void addStats(BusinessReservationFeed feed, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        LocalDate startDate = feed.getStartTime().toLocalDate();
+        dailyMinutes(feed.getStartTime(), feed.getEndTime()).forEach((date, minutes) -> {
+            boolean first = date.equals(startDate);
+            statRepository.addStat(feed.getBusinessId(), feed.getStudyRoomId(), date,
+                    first ? delta : 0, first ? (long) delta * feed.getReservationPrice() : 0L, minutes * delta);
+        });
+    }
+
+    private static void accumulate(Map<StatKey, StatTotal> totals, BusinessReservationFeed feed) {
+        LocalDate startDate = feed.getStartTime().toLocalDate();
+        dailyMinutes(feed.getStartTime(), feed.getEndTime()).forEach((date, minutes) -> {
+            StatTotal total = totals.computeIfAbsent(
+                    new StatKey(feed.getBusinessId(), feed.getStudyRoomId(), date), key -> new StatTotal());
+            if (date.equals(startDate)) {
+                total.bookingCount++;
+                total.revenue += feed.getReservationPrice();
+            }
+            total.bookedMinutes += minutes;
+        });
+    }
+
+    // 예약 시간 [start, end) 를 날짜별 이용 시간(분)으로 나눈다 (자정을 넘는 예약)
+    static Map<LocalDate, Integer> dailyMinutes(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, Integer> minutes = new LinkedHashMap<>();
+        LocalDateTime cursor = start;
+        while (cursor.isBefore(end)) {
+            LocalDateTime nextDay = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime until = nextDay.isBefore(end) ? nextDay : end;
+            minutes.put(cursor.toLocalDate(), (int) Duration.between(cursor, until).toMinutes());
+            cursor = until;
+        }
+        return minutes;
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private record RebuildFlag(boolean rebuilding, long expiresAt) {
+    }
+
+    private record StatKey(Long businessId, Long studyRoomId, LocalDate statDate) {
+    }
+
+    private static final class StatTotal {
+        private int bookingCount;
+        private long revenue;
+        private int bookedMinutes;
+    }
+}
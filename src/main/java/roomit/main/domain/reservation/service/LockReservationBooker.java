@@ -0,0 +1,26 @@
+package roomit.main.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.global.rock.DistributedLock;
+
+/**
+ * 분산락으로 같은 (스터디룸, 날짜)의 예약을 직렬화한 뒤 겹침을 확인
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.booking.mode", havingValue = "lock", matchIfMissing = true)
+public class LockReservationBooker implements ReservationBooker {
+
+    private final ReservationRegistrar reservationRegistrar;
+
+    // 겹치는 구간끼리 같은 락을 잡도록 (스터디룸, 날짜) 단위로 잠금
+    @Override
+    @DistributedLock(key = "T(roomit.main.domain.reservation.service.ReservationLockKeys)"
+        + ".roomDays(#studyRoomId, #request.startTime, #request.endTime)")
+    public Long book(Long memberId, Long studyRoomId, CreateReservationRequest request) {
+        return reservationRegistrar.register(memberId, studyRoomId, request).getReservationId();
+    }
+}
@@ -0,0 +1,97 @@
+package roomit.main.domain.reservation.service;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.global.error.ErrorCode;
+
+/**
+ * Redis Lua 스크립트로 시간 칸을 먼저 선점하고, 성공한 요청만 DB 에 저장
+ * 인기 스터디룸에 요청이 몰려도 충돌은 Redis 왕복 한 번으로 거절되고 락 대기가 없다.
+ * DB 가 기준이므로 저장 시 겹침 조회는 그대로 하고, 어긋난 선점은 ReservationClaimReconciler 가 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.booking.mode", havingValue = "redis")
+public class RedisReservationBooker implements ReservationBooker {
+
+    private final ReservationSlotClaims reservationSlotClaims;
+    private final ReservationRegistrar reservationRegistrar;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Long book(Long memberId, Long studyRoomId, CreateReservationRequest request) {
+        List<String> keys = reservationSlotClaims.keys(studyRoomId, request.startTime(), request.endTime());
+        String token = UUID.randomUUID().toString();
+
+        if (!claim(keys, token)) {
+            throw ErrorCode.DUPLICATE_RESERVATION.commonException();
+        }
+
+        Long reservationId;
+        try {
+            reservationId = transactionTemplate.execute(status ->
+                    reservationRegistrar.register(memberId, studyRoomId, request).getReservationId());
+        } catch (RuntimeException e) {
+            releaseToken(keys, token);
+            throw e;
+        }
+
+        try {
+            reservationSlotClaims.confirm(keys, token, reservationId);
+        } catch (RuntimeException e) {
+            // 예약은 저장되었으므로 실패시키지 않음 (선점은 만료되거나 reconciler 가 다시 채움)
+            log.warn("예약 선점 확정 실패 - reservationId={}", reservationId, e);
+        }
+        return reservationId;
+    }
+
+    // 결제 완료 시 예약 종료까지 점유, 취소/결제 실패 시 반납
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.reservationState() == ReservationState.ON_HOLD
+                || event.reservationState() == ReservationState.COMPLETED) {
+            return;
+        }
+
+        List<String> keys = reservationSlotClaims.keys(event.studyRoomId(), event.startTime(), event.endTime());
+        try {
+            if (event.reservationState() == ReservationState.ACTIVE) {
+                long conflicts = reservationSlotClaims.assign(keys, event.reservationId(), event.endTime());
+                if (conflicts > 0) {
+                    log.warn("결제 완료 예약의 선점 충돌 - reservationId={}, conflicts={}", event.reservationId(), conflicts);
+                }
+            } else {
+                reservationSlotClaims.release(keys, event.reservationId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 선점 갱신 실패 - reservationId={}", event.reservationId(), e);
+        }
+    }
+
+    private boolean claim(List<String> keys, String token) {
+        try {
+            return reservationSlotClaims.claim(keys, token);
+        } catch (RuntimeException e) {
+            log.warn("예약 선점 실패 - keys={}", keys, e);
+            throw ErrorCode.LOCK_ACQUISITION_FAILED.commonException();
+        }
+    }
+
+    private void releaseToken(List<String> keys, String token) {
+        try {
+            reservationSlotClaims.releaseToken(keys, token);
+        } catch (RuntimeException e) {
+            // 반납하지 못한 선점은 hold 시간이 지나면 만료
+            log.warn("예약 선점 반납 실패 - keys={}", keys, e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package roomit.main.domain.reservation.service;
+
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+
+/**
+ * 예약 시간대의 동시성 제어 방식
+ * reservation.booking.mode=lock (기본) : Redisson 분산락 + 겹침 조회
+ * reservation.booking.mode=slot        : reservation_slot 유니크 키 (락 없음)
+ */
+public interface ReservationBooker {
+
+    Long book(Long memberId, Long studyRoomId, CreateReservationRequest request);
+}
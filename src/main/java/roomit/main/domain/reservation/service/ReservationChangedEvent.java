@@ -0,0 +1,22 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDateTime;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+
+/**
+ * 예약 생성/취소/결제 실패 등으로 스터디룸의 예약 시간대가 바뀌었을 때 발행
+ * 커밋 이후 예약 가능 시간 캐시 갱신, (slot 모드) 트랜잭션 안에서 시간 칸 반납에 사용
+ */
+public record ReservationChangedEvent(
+        Long reservationId,
+        Long studyRoomId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        ReservationState reservationState
+) {
+    public static ReservationChangedEvent of(Reservation reservation) {
+        return new ReservationChangedEvent(reservation.getReservationId(), reservation.getStudyRoom().getStudyRoomId(),
+                reservation.getStartTime(), reservation.getEndTime(), reservation.getReservationState());
+    }
+}
@@ -0,0 +1,78 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+
+/**
+ * DB 예약을 기준으로 Redis 선점을 주기적으로 바로잡는다 (reservation.booking.mode=redis)
+ * - DB 에 살아 있는 예약인데 선점이 없으면 다시 채움 (Redis 재시작, 확정 실패 등)
+ * - DB 에서 취소/결제 실패/삭제된 예약의 선점은 제거 (이벤트 유실 등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.booking.mode", havingValue = "redis")
+public class ReservationClaimReconciler {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotClaims reservationSlotClaims;
+
+    @Scheduled(cron = "${reservation.booking.redis.reconcile-cron:0 */10 * * * *}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int restored = 0;
+        long conflicts = 0;
+        for (Reservation reservation : reservationRepository.findByReservationStateInAndEndTimeAfter(ReservationState.OCCUPYING, now)) {
+            LocalDateTime expireAt = reservation.getReservationState() == ReservationState.ON_HOLD
+                    ? reservationSlotClaims.holdUntil(reservation.getCreatedAt(), reservation.getEndTime())
+                    : reservation.getEndTime();
+            if (!expireAt.isAfter(now)) {
+                continue;   // 결제 대기 시간이 지난 선점은 되살리지 않음
+            }
+
+            conflicts += reservationSlotClaims.assign(reservationSlotClaims.keys(reservation.getStudyRoom().getStudyRoomId(),
+                    reservation.getStartTime(), reservation.getEndTime()), reservation.getReservationId(), expireAt);
+            restored++;
+        }
+
+        int removed = removeStaleClaims();
+        log.info("예약 선점 정합성 복구 - restored={}, conflicts={}, removed={}", restored, conflicts, removed);
+    }
+
+    // 스캔 이후 생성된 예약을 지우지 않도록 후보 예약을 DB 에서 다시 확인한 뒤 제거
+    private int removeStaleClaims() {
+        Map<String, Long> confirmed = reservationSlotClaims.scanConfirmed();
+        if (confirmed.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> live = new HashSet<>();
+        for (Reservation reservation : reservationRepository.findAllById(new HashSet<>(confirmed.values()))) {
+            if (ReservationState.OCCUPYING.contains(reservation.getReservationState())) {
+                live.add(reservation.getReservationId());
+            }
+        }
+
+        int removed = 0;
+        for (Map.Entry<String, Long> entry : confirmed.entrySet()) {
+            if (!live.contains(entry.getValue())) {
+                removed += (int) reservationSlotClaims.release(List.of(entry.getKey()), entry.getValue());
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,30 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 생성 시 사용하는 (스터디룸, 날짜) 단위 락 키
+ * 겹치는 시간대는 반드시 같은 날짜 키를 하나 이상 공유하므로 서로 다른 구간이어도 직렬화되고,
+ * 다른 날짜나 다른 스터디룸의 예약은 서로 막지 않는다.
+ */
+public final class ReservationLockKeys {
+
+    private static final String PREFIX = "reservation:";
+
+    private ReservationLockKeys() {
+    }
+
+    // [startTime, endTime) 구간이 걸친 날짜마다 하나씩, 날짜 오름차순
+    public static List<String> roomDays(Long studyRoomId, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDate last = endTime.isAfter(startTime) ? endTime.minusNanos(1).toLocalDate() : startTime.toLocalDate();
+
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date = startTime.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+            keys.add(PREFIX + studyRoomId + ":" + date);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,56 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import roomit.main.domain.member.entity.Member;
+import roomit.main.domain.member.repository.MemberRepository;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.global.error.ErrorCode;
+
+/**
+ * 예약 저장 공통 로직 (겹침 확인 -> 저장 -> 이벤트 발행)
+ * 트랜잭션과 동시성 제어는 호출하는 ReservationBooker 가 담당
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationRegistrar {
+
+    private final ReservationRepository reservationRepository;
+    private final StudyRoomRepository studyRoomRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Reservation register(Long memberId, Long studyRoomId, CreateReservationRequest request) {
+        checkReservationTime(request.startTime(), request.endTime(), studyRoomId);
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(ErrorCode.BUSINESS_NOT_FOUND::commonException);
+
+        StudyRoom studyRoom = studyRoomRepository.findByIdWithWorkplace(studyRoomId)
+                .orElseThrow(ErrorCode.STUDYROOM_NOT_FOUND::commonException);
+
+        Reservation reservation = reservationRepository.save(request.toEntity(member, studyRoom));
+
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation));
+        return reservation;
+    }
+
+    // 예약의 중복 시간 체크
+    public void checkReservationTime(LocalDateTime startTime, LocalDateTime endTime, Long studyRoomId) {
+        // 요청 시간대와 겹치는 예약만 조회하므로 스터디룸의 전체 예약 이력과 무관
+        boolean overlapped = reservationRepository
+            .existsByStudyRoomStudyRoomIdAndStartTimeBeforeAndEndTimeAfterAndReservationStateIn(
+                studyRoomId, endTime, startTime, ReservationState.OCCUPYING);
+
+        if (overlapped) {
+            throw ErrorCode.DUPLICATE_RESERVATION.commonException();
+        }
+    }
+}
@@ -3,9 +3,13 @@ package roomit.main.domain.reservation.service;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import roomit.main.domain.reservation.entity.Reservation;
 import roomit.main.domain.reservation.entity.ReservationState;
 import roomit.main.domain.reservation.repository.ReservationRepository;
@@ -19,6 +23,19 @@ import java.util.List;
 public class ReservationScheduler {
 
     private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 결제하지 않은 예약(ON_HOLD)이 시간대를 붙잡고 있을 수 있는 시간
+    @Value("${reservation.on-hold.expire-minutes:15}")
+    private long expireMinutes;
+
+    @Value("${reservation.on-hold.batch-size:500}")
+    private int batchSize;
+
+    // 결제창을 연 뒤 토스 승인까지 기다려 주는 시간 (이 시간 안에 결제 요청이 있으면 만료시키지 않음)
+    @Value("${reservation.on-hold.payment-grace-minutes:15}")
+    private long paymentGraceMinutes;
 
 
     @Scheduled(cron = "0 0 * * * *")
@@ -27,12 +44,63 @@ public class ReservationScheduler {
         LocalDateTime currentTime = LocalDateTime.now();
         log.info("스케줄링");
 
-        List<Reservation> reservations = reservationRepository.findByReservationState(
-                ReservationState.ACTIVE);
+        // 아직 끝나지 않은 예약은 ACTIVE 로 두어 시간대를 계속 점유
+        List<Reservation> reservations = reservationRepository.findByReservationStateAndEndTimeBefore(
+                ReservationState.ACTIVE, currentTime);
 
         for (Reservation reservation : reservations) {
             reservation.changeReservationState(ReservationState.COMPLETED);
             reservationRepository.save(reservation);
+            // 사업자 대시보드 등 상태 변경 구독자에 전달
+            eventPublisher.publishEvent(ReservationChangedEvent.of(reservation));
+        }
+    }
+
+    // 결제 대기 시간이 지난 예약을 EXPIRED 로 일괄 변경 (배치마다 트랜잭션을 나눠 행 잠금을 짧게 유지)
+    @Scheduled(cron = "${reservation.on-hold.sweep-cron:0 * * * * *}")
+    public void expireOnHoldReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusMinutes(expireMinutes);
+        LocalDateTime paymentCutoff = now.minusMinutes(paymentGraceMinutes);
+
+        int total = 0;
+        while (true) {
+            Integer expired = transactionTemplate.execute(status -> expireBatch(cutoff, paymentCutoff));
+            if (expired == null || expired == 0) {
+                break;
+            }
+            total += expired;
+            if (expired < batchSize) {
+                break;
+            }
         }
+
+        if (total > 0) {
+            log.info("결제 대기 예약 만료 처리 - count={}", total);
+        }
+    }
+
+    private int expireBatch(LocalDateTime cutoff, LocalDateTime paymentCutoff) {
+        List<Reservation> reservations = reservationRepository.findStaleReservations(ReservationState.ON_HOLD, cutoff,
+                paymentCutoff, PageRequest.of(0, batchSize));
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        // 벌크 UPDATE 는 영속성 컨텍스트를 비우므로 이벤트에 필요한 값은 먼저 만들어 둔다
+        List<ReservationChangedEvent> events = reservations.stream()
+                .map(reservation -> new ReservationChangedEvent(reservation.getReservationId(),
+                        reservation.getStudyRoom().getStudyRoomId(), reservation.getStartTime(),
+                        reservation.getEndTime(), ReservationState.EXPIRED))
+                .toList();
+
+        // 행 잠금으로 조회했으므로 조회된 예약은 모두 변경된다
+        int expired = reservationRepository.changeReservationStates(
+                events.stream().map(ReservationChangedEvent::reservationId).toList(),
+                ReservationState.ON_HOLD, ReservationState.EXPIRED, LocalDateTime.now());
+
+        // 예약 가능 시간 캐시 무효화, 시간 칸/Redis 선점 반납
+        events.forEach(eventPublisher::publishEvent);
+        return expired;
     }
 }
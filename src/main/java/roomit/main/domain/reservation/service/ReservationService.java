@@ -1,54 +1,58 @@
 package roomit.main.domain.reservation.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import roomit.main.domain.member.entity.Member;
-import roomit.main.domain.member.repository.MemberRepository;
 import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.dto.request.ReservationCursor;
 import roomit.main.domain.reservation.dto.response.MyWorkPlaceReservationResponse;
+import roomit.main.domain.reservation.dto.response.ReservationPageResponse;
 import roomit.main.domain.reservation.dto.response.ReservationResponse;
+import roomit.main.domain.reservation.entity.BusinessReservationFeed;
 import roomit.main.domain.reservation.entity.Reservation;
 import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.BusinessReservationFeedRepository;
 import roomit.main.domain.reservation.repository.ReservationRepository;
-import roomit.main.domain.studyroom.entity.StudyRoom;
-import roomit.main.domain.studyroom.repository.StudyRoomRepository;
-import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.reservation.repository.search.ReservationSummary;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
 import roomit.main.global.error.ErrorCode;
-import roomit.main.global.rock.DistributedLock;
+import roomit.main.global.inner.ImageUrl;
 import roomit.main.global.service.FileLocationService;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final ReservationRepository reservationRepository;
-    private final StudyRoomRepository studyRoomRepository;
-    private final MemberRepository memberRepository;
     private final FileLocationService fileLocationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationBooker reservationBooker;
+    private final BusinessReservationFeedRepository businessReservationFeedRepository;
+    private final BusinessReservationDashboardUpdater dashboardUpdater;
+    private final WorkplaceRepository workplaceRepository;
+
+    // 사업자 예약 목록을 대시보드 목록 테이블에서 읽을지 여부 (rebuild 로 채운 뒤 켠다)
+    @Value("${reservation.dashboard.feed.enabled:false}")
+    private boolean feedEnabled;
 
-    // 예약 만드는 메서드
-    @DistributedLock(key = "#studyRoomId + ':' + #request.startTime + ':' + #request.endTime")
+    // 예약 만드는 메서드 (동시성 제어는 reservation.booking.mode 에 따른 ReservationBooker 가 담당)
     public Long createReservation(Long memberId,Long studyRoomId,CreateReservationRequest request) {
         validateReservation(request.startTime(),request.endTime());
 
-        checkReservationTime(request.startTime(),request.endTime(),studyRoomId);
-
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(ErrorCode.BUSINESS_NOT_FOUND::commonException);
-
-        StudyRoom studyRoom = studyRoomRepository.findByIdWithWorkplace(studyRoomId)
-                .orElseThrow(ErrorCode.STUDYROOM_NOT_FOUND::commonException);
-
-        Reservation reservation = request.toEntity(member,studyRoom);
-
-        return reservationRepository.save(reservation).getReservationId();
+        return reservationBooker.book(memberId, studyRoomId, request);
     }
 
     @Transactional(readOnly = true)
@@ -56,21 +60,10 @@ public class ReservationService {
         if(!startTime.isBefore(endTime)){
             throw ErrorCode.START_TIME_NOT_AFTER_END_TIME.commonException();
         }
-    }
-
-    // 예약의 중복 시간 체크
-    @Transactional(readOnly = true)
-    public void checkReservationTime(LocalDateTime StartTime, LocalDateTime endTime, Long studyRoomId) {
-        StudyRoom existingStudyRoom = studyRoomRepository.findById(studyRoomId)
-                .orElseThrow(ErrorCode.STUDYROOM_NOT_FOUND::commonException);
-
-        existingStudyRoom.getReservations().forEach(reservation -> {
-            if (reservation.getReservationState().equals(ReservationState.ACTIVE) || reservation.getReservationState().equals(ReservationState.ON_HOLD)) {
-                if (reservation.getStartTime().isBefore(endTime) && reservation.getEndTime().isAfter(StartTime)) {
-                    throw ErrorCode.DUPLICATE_RESERVATION.commonException();
-                }
-            }
-        });
+        // 기간 조회(findOverlappingReservationsByStudyRooms)의 시작 시각 하한이 이 길이에 맞춰져 있음
+        if(Duration.between(startTime, endTime).compareTo(Reservation.MAX_DURATION) > 0){
+            throw ErrorCode.RESERVATION_TOO_LONG.commonException();
+        }
     }
 
 
@@ -92,65 +85,118 @@ public class ReservationService {
         }else{
             throw ErrorCode.RESERVATION_CANNOT_CANCEL.commonException();
         }
+
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation));
     }
 
     // 제일 최근 예약 1건 조회
     @Transactional(readOnly = true)
     public ReservationResponse findByMemberId(Long memberId) {
-        Reservation reservation = reservationRepository.findTopByMemberMemberIdOrderByCreatedAtDesc(memberId);
+        return reservationRepository.findLatestSummaryByMemberId(memberId)
+            .map(summary -> ReservationResponse.from(summary,
+                fileLocationService.getThumbnail(summary.workplaceImageUrl())))
+            .orElse(null);
+    }
+
 
-        if(reservation == null){
-            return null;
-        }
 
-        StudyRoom studyRoom = reservation.getStudyRoom();
-        Workplace workPlace = studyRoom.getWorkPlace();
+    // memberId를 이용하여 나의 예약 최근순 조회 (커서 기반 페이지)
+    @Transactional(readOnly = true)
+    public ReservationPageResponse<ReservationResponse> findReservationsByMemberId(Long memberId, String cursor, int size){
+        ReservationCursor position = ReservationCursor.decode(cursor);
+        int pageSize = pageSize(size);
 
+        List<ReservationSummary> summaries = reservationRepository.findSummariesByMemberId(memberId,
+            position.createdAt(), position.reservationId(), pageSize + 1);
 
-        return ReservationResponse.from(studyRoom,reservation,workPlace,fileLocationService);
+        return toPage(summaries, pageSize, ReservationResponse::from);
     }
 
 
 
-    // memberId를 이용하여 나의 예약 전체 조회
+    // 내 사업장의 예약자 보기 (예약자 확인 페이지, 커서 기반 페이지)
     @Transactional(readOnly = true)
-    public List<ReservationResponse> findReservationsByMemberId(Long memberId){
-        Pageable pageable = PageRequest.of(0, 10);
-
-        List<Reservation> reservations = reservationRepository.findReservationsByMemberId(memberId, pageable);
+    public ReservationPageResponse<MyWorkPlaceReservationResponse> findReservationByWorkplaceId(Long businessId, String cursor, int size) {
+        ReservationCursor position = ReservationCursor.decode(cursor);
+        int pageSize = pageSize(size);
 
-        if(reservations.isEmpty()){
-            return null;
+        // 목록 테이블을 다시 만드는 동안에는 예약 테이블에서 읽음
+        if (feedEnabled && !dashboardUpdater.isRebuilding()) {
+            return findFeedByBusinessId(businessId, position, pageSize);
         }
 
-        return reservations.stream()
-            .map(reservation -> ReservationResponse.from(
-                reservation.getStudyRoom(),
-                reservation,
-                reservation.getStudyRoom().getWorkPlace(),
-                    fileLocationService
-            ))
-            .toList();
+        List<ReservationSummary> summaries = reservationRepository.findSummariesByBusinessId(businessId,
+            position.createdAt(), position.reservationId(), pageSize + 1);
+
+        return toPage(summaries, pageSize, MyWorkPlaceReservationResponse::from);
     }
 
+    // 조인 없이 (business_id, reservation_created_at, reservation_id) 인덱스 한 번으로 조회
+    private ReservationPageResponse<MyWorkPlaceReservationResponse> findFeedByBusinessId(Long businessId,
+        ReservationCursor position, int pageSize) {
+        List<BusinessReservationFeed> feeds = businessReservationFeedRepository.findPageByBusinessId(businessId,
+            position.createdAt(), position.reservationId(), PageRequest.of(0, pageSize + 1));
 
+        boolean hasNext = feeds.size() > pageSize;
+        List<BusinessReservationFeed> page = hasNext ? feeds.subList(0, pageSize) : feeds;
 
-    // 내 사업장의 예약자 보기 (예약자 확인 페이지)
-    @Transactional(readOnly = true)
-    public List<MyWorkPlaceReservationResponse> findReservationByWorkplaceId(Long businessId) {
-        List<Reservation> reservations = reservationRepository.findMyAllReservations(businessId);
+        Map<Long, String> thumbnails = resolveFeedThumbnails(page);
+        List<MyWorkPlaceReservationResponse> responses = page.stream()
+            .map(feed -> MyWorkPlaceReservationResponse.from(feed, thumbnails.get(feed.getWorkplaceId())))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            BusinessReservationFeed last = page.get(page.size() - 1);
+            nextCursor = new ReservationCursor(last.getReservationCreatedAt(), last.getReservationId()).encode();
+        }
+        return new ReservationPageResponse<>(responses, nextCursor);
+    }
 
-        if(reservations.isEmpty()){
-            return null;
+    // 사업장에 저장된 이미지 key 목록으로 대표 이미지를 만들어 행마다 S3 목록을 조회하지 않음
+    // key 목록이 아직 없는 사업장만 캐시(대표 이미지/이미지 목록) 또는 S3 로 조회
+    // @return 사업장 ID -> 대표 이미지 URL
+    private Map<Long, String> resolveFeedThumbnails(List<BusinessReservationFeed> page) {
+        if (page.isEmpty()) {
+            return Map.of();
         }
+        Map<Long, ImageUrl> imageUrls = workplaceRepository.findImageUrlsByIds(page.stream()
+                .map(BusinessReservationFeed::getWorkplaceId)
+                .distinct()
+                .toList())
+            .stream()
+            .filter(row -> row[1] != null && ((ImageUrl) row[1]).getValue() != null)
+            .collect(Collectors.toMap(row -> (Long) row[0], row -> (ImageUrl) row[1]));
+
+        Map<String, String> thumbnails = fileLocationService.resolveThumbnailsByImageUrl(imageUrls.values());
+        return imageUrls.entrySet().stream()
+            .filter(entry -> thumbnails.get(entry.getValue().getValue()) != null)
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> thumbnails.get(entry.getValue().getValue())));
+    }
 
-        return reservations.stream()
-            .map(reservation -> MyWorkPlaceReservationResponse.from(
-                reservation.getStudyRoom(),
-                reservation,
-                reservation.getStudyRoom().getWorkPlace(),
-                    fileLocationService
-            ))
+        private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // 한 건 더 조회해 다음 페이지 유무를 판단하고, 마지막 예약 위치를 다음 커서로 사용
+    private <T> ReservationPageResponse<T> toPage(List<ReservationSummary> summaries, int pageSize,
+        BiFunction<ReservationSummary, String, T> mapper) {
+        boolean hasNext = summaries.size() > pageSize;
+        List<ReservationSummary> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+
+        // 목록의 사업장 대표 이미지를 한 번에 조회
+        Map<String, String> thumbnails = fileLocationService.resolveThumbnailsByImageUrl(page.stream()
+            .map(ReservationSummary::workplaceImageUrl)
+            .toList());
+        List<T> responses = page.stream()
+            .map(summary -> mapper.apply(summary, thumbnails.get(summary.workplaceImageUrl().getValue())))
             .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReservationSummary last = page.get(page.size() - 1);
+            nextCursor = new ReservationCursor(last.createdAt(), last.reservationId()).encode();
+        }
+        return new ReservationPageResponse<>(responses, nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에 30분 칸 단위로 예약 시간대를 선점 (reservation.booking.mode=redis)
+ * key: reservation:claim:{studyRoomId}:{slotStart}, value: 선점 토큰 -> DB 저장 후 "r:{reservationId}"
+ * 한 스터디룸의 키는 같은 hash tag 를 쓰므로 클러스터에서도 스크립트 하나로 원자적으로 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.booking.mode", havingValue = "redis")
+public class ReservationSlotClaims {
+
+    static final String KEY_PREFIX = "reservation:claim:";
+    static final String OWNER_PREFIX = "r:";
+    private static final int SCAN_COUNT = 500;
+
+    // 모든 칸이 비어 있을 때만 한꺼번에 선점 (1: 성공, 0: 충돌)
+    private static final RedisScript<Long> CLAIM = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then return 0 end
+            end
+            for _, key in ipairs(KEYS) do
+              redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // 토큰으로 선점한 칸의 주인을 예약 ID 로 바꾼다 (남은 만료 시간 유지)
+    private static final RedisScript<Long> CONFIRM = new DefaultRedisScript<>("""
+            local count = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('GET', key) == ARGV[1] then
+                local ttl = redis.call('PTTL', key)
+                if ttl > 0 then
+                  redis.call('SET', key, ARGV[2], 'PX', ttl)
+                  count = count + 1
+                end
+              end
+            end
+            return count
+            """, Long.class);
+
+    // 주인이 일치하는 칸만 반납
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            local count = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('GET', key) == ARGV[1] then
+                redis.call('DEL', key)
+                count = count + 1
+              end
+            end
+            return count
+            """, Long.class);
+
+    // 비어 있거나 이미 주인인 칸을 지정한 시각까지 점유 (반환: 다른 주인이 가진 칸 수)
+    private static final RedisScript<Long> ASSIGN = new DefaultRedisScript<>("""
+            local conflicts = 0
+            for _, key in ipairs(KEYS) do
+              local owner = redis.call('GET', key)
+              if owner == false or owner == ARGV[1] then
+                redis.call('SET', key, ARGV[1])
+                redis.call('PEXPIREAT', key, ARGV[2])
+              else
+                conflicts = conflicts + 1
+              end
+            end
+            return conflicts
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 결제가 끝나지 않은 선점(ON_HOLD)이 자동으로 풀리기까지의 시간
+    @Value("${reservation.booking.redis.hold-minutes:15}")
+    private long holdMinutes;
+
+    public List<String> keys(Long studyRoomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return ReservationSlots.starts(startTime, endTime).stream()
+                .map(slotStart -> KEY_PREFIX + "{" + studyRoomId + "}:" + slotStart)
+                .toList();
+    }
+
+    public boolean claim(List<String> keys, String token) {
+        return Long.valueOf(1L).equals(redisTemplate.execute(CLAIM, keys, token, String.valueOf(holdMinutes * 60_000)));
+    }
+
+    public void confirm(List<String> keys, String token, Long reservationId) {
+        redisTemplate.execute(CONFIRM, keys, token, owner(reservationId));
+    }
+
+    public void releaseToken(List<String> keys, String token) {
+        redisTemplate.execute(RELEASE, keys, token);
+    }
+
+    public long release(List<String> keys, Long reservationId) {
+        Long released = redisTemplate.execute(RELEASE, keys, owner(reservationId));
+        return released == null ? 0 : released;
+    }
+
+    public long assign(List<String> keys, Long reservationId, LocalDateTime expireAt) {
+        long expireAtMillis = expireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Long conflicts = redisTemplate.execute(ASSIGN, keys, owner(reservationId), String.valueOf(expireAtMillis));
+        return conflicts == null ? 0 : conflicts;
+    }
+
+    // 예약 ID 로 확정된 선점 키 전체 (key -> reservationId), 확정 전 토큰은 hold 시간 뒤 만료되므로 제외
+    public Map<String, Long> scanConfirmed() {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        Map<String, Long> owners = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += SCAN_COUNT) {
+            List<String> chunk = keys.subList(from, Math.min(from + SCAN_COUNT, keys.size()));
+            List<String> values = redisTemplate.opsForValue().multiGet(chunk);
+            if (values == null) {
+                continue;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                String value = values.get(i);
+                if (value != null && value.startsWith(OWNER_PREFIX)) {
+                    owners.put(chunk.get(i), Long.valueOf(value.substring(OWNER_PREFIX.length())));
+                }
+            }
+        }
+        return owners;
+    }
+
+    // 결제 대기 선점이 유지되는 시각 (예약 종료 시각을 넘지 않음)
+    public LocalDateTime holdUntil(LocalDateTime from, LocalDateTime endTime) {
+        LocalDateTime holdUntil = from.plusMinutes(holdMinutes);
+        return holdUntil.isBefore(endTime) ? holdUntil : endTime;
+    }
+
+    static String owner(Long reservationId) {
+        return OWNER_PREFIX + reservationId;
+    }
+}
@@ -0,0 +1,29 @@
+package roomit.main.domain.reservation.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 시간대를 30분 칸으로 나누는 기준 (slot / redis 예약 모드 공통)
+ */
+final class ReservationSlots {
+
+    static final int SLOT_MINUTES = 30;
+
+    private ReservationSlots() {
+    }
+
+    // [startTime, endTime) 이 걸친 30분 칸의 시작 시각
+    static List<LocalDateTime> starts(LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime slot = startTime.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes(startTime.getMinute() / SLOT_MINUTES * SLOT_MINUTES);
+
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (; slot.isBefore(endTime); slot = slot.plusMinutes(SLOT_MINUTES)) {
+            slots.add(slot);
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,52 @@
+package roomit.main.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.repository.ReservationSlotRepository;
+import roomit.main.global.error.ErrorCode;
+
+/**
+ * 락 없이 reservation_slot 의 (studyroom_id, slot_start) 유니크 키로 이중 예약을 막는다
+ * 예약과 시간 칸을 같은 트랜잭션에서 저장하므로 칸 하나라도 선점되어 있으면 예약도 함께 롤백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.booking.mode", havingValue = "slot")
+public class SlotReservationBooker implements ReservationBooker {
+
+    private final ReservationRegistrar reservationRegistrar;
+    private final ReservationSlotRepository reservationSlotRepository;
+
+    @Override
+    @Transactional
+    public Long book(Long memberId, Long studyRoomId, CreateReservationRequest request) {
+        // 칸이 없는 이전 예약(lock 모드 시절)과의 겹침은 조회로 확인, 새 예약끼리의 경합은 유니크 키가 판정
+        Reservation reservation = reservationRegistrar.register(memberId, studyRoomId, request);
+
+        try {
+            reservationSlotRepository.insertSlots(reservation.getReservationId(), studyRoomId,
+                    ReservationSlots.starts(request.startTime(), request.endTime()));
+        } catch (DataIntegrityViolationException e) {
+            throw ErrorCode.DUPLICATE_RESERVATION.commonException();
+        }
+        return reservation.getReservationId();
+    }
+
+    // 상태 변경과 같은 트랜잭션에서 반납해야 하므로 커밋 전에 동기 처리
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.reservationState().occupiesSlot()) {
+            return;
+        }
+        int released = reservationSlotRepository.deleteByReservationId(event.reservationId());
+        log.debug("released {} slots of reservation {}", released, event.reservationId());
+    }
+}
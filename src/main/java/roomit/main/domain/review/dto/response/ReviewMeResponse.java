@@ -19,13 +19,17 @@ public record ReviewMeResponse(
         Long reviewId)
 {
     public ReviewMeResponse(Review review, Workplace workplace, FileLocationService fileLocationService) {
+        this(review, workplace, fileLocationService.getThumbnail(workplace.getImageUrl()));
+    }
+
+    public ReviewMeResponse(Review review, Workplace workplace, String workplaceImageURL) {
         this(
                 review.getReservation().getStudyRoom().getStudyRoomName().getValue(),
                 review.getReviewRating(),
                 review.getReviewContent(),
                 review.getCreatedAt(),
                 review.getWorkplaceName(),
-                fileLocationService.getImagesFromFolder(workplace.getImageUrl().getValue()).get(0),
+                workplaceImageURL,
                 workplace.getWorkplaceId(),
                 review.getReviewId()
         );
@@ -0,0 +1,10 @@
+package roomit.main.domain.review.service;
+
+/**
+ * 리뷰 등록 시 발행 (커밋 이후 해당 회원의 추천 목록 갱신에 사용)
+ */
+public record ReviewRegisteredEvent(
+        Long memberId,
+        Long workplaceId
+) {
+}
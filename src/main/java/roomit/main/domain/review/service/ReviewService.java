@@ -1,12 +1,15 @@
 package roomit.main.domain.review.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomit.main.domain.business.entity.Business;
@@ -32,6 +35,7 @@ import roomit.main.domain.review.repository.ReviewRepository;
 import roomit.main.domain.workplace.entity.Workplace;
 import roomit.main.domain.workplace.entity.value.WorkplaceName;
 import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.domain.workplace.service.WorkplaceChangedEvent;
 import roomit.main.global.error.ErrorCode;
 import roomit.main.global.service.FileLocationService;
 
@@ -46,6 +50,7 @@ public class ReviewService {
     private final NotificationService notificationService;
     private final FileLocationService fileLocationService;
     private final ReviewNotificationRepository reviewNotificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void register(ReviewRegisterRequest request, Long memberId) {
@@ -72,6 +77,9 @@ public class ReviewService {
 
 
         reviewRepository.save(review);
+        eventPublisher.publishEvent(WorkplaceChangedEvent.updated(workPlace.getWorkplaceId()));
+        // 사업장 인덱스 갱신 이후에 처리되도록 WorkplaceChangedEvent 다음에 발행
+        eventPublisher.publishEvent(new ReviewRegisteredEvent(memberId, workPlace.getWorkplaceId()));
 
         alrim(workPlace,request.reviewContent());
 
@@ -128,6 +136,7 @@ public class ReviewService {
         } catch (Exception e) {
             throw ErrorCode.REVIEW_UPDATE_EXCEPTION.commonException();
         }
+        eventPublisher.publishEvent(WorkplaceChangedEvent.updated(workPlace.getWorkplaceId()));
 
         return new ReviewResponse(review);
     }
@@ -139,16 +148,24 @@ public class ReviewService {
 
         List<Reservation> reservations = member.getReservations();
 
-        List<ReviewMeResponse> responses = new ArrayList<>();
+        Map<Review, Workplace> reviewedWorkplaces = new LinkedHashMap<>();
         for (Reservation reservation : reservations) {
             if(reservation.getReview() != null){
                 Workplace workplace = workplaceRepository
                         .getWorkplaceByWorkplaceName(new WorkplaceName(reservation.getReview().getWorkplaceName()));
 
-                responses.add(new ReviewMeResponse(reservation.getReview(),workplace,fileLocationService));
+                reviewedWorkplaces.put(reservation.getReview(), workplace);
             }
         }
 
+        // 사업장 대표 이미지를 한 번에 조회
+        Map<String, String> thumbnails = fileLocationService.resolveThumbnailsByImageUrl(
+                reviewedWorkplaces.values().stream().map(Workplace::getImageUrl).toList());
+
+        List<ReviewMeResponse> responses = new ArrayList<>();
+        reviewedWorkplaces.forEach((review, workplace) -> responses.add(
+                new ReviewMeResponse(review, workplace, thumbnails.get(workplace.getImageUrl().getValue()))));
+
         return responses;
     }
 
@@ -173,6 +190,7 @@ public class ReviewService {
 
         workplaceRepository.save(workPlace);
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(WorkplaceChangedEvent.updated(workPlace.getWorkplaceId()));
     }
 
     public List<ReviewResponse> getList(ReviewSearch reviewSearch, Long workId) {
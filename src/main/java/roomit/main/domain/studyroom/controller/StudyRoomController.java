@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -26,11 +27,11 @@ import roomit.main.domain.studyroom.dto.request.FindAvailableStudyRoomRequest;
 import roomit.main.domain.studyroom.dto.request.UpdateStudyRoomRequest;
 import roomit.main.domain.studyroom.dto.response.FindPossibleStudyRoomResponse;
 import roomit.main.domain.studyroom.dto.response.ReservationPossibleStudyRoomResponse;
+import roomit.main.domain.studyroom.dto.response.StudyRoomCalendarResponse;
 import roomit.main.domain.studyroom.dto.response.StudyRoomListResponse;
 import roomit.main.domain.studyroom.dto.response.StudyRoomResponse;
 import roomit.main.domain.studyroom.service.StudyRoomService;
-import roomit.main.domain.workplace.dto.response.DistanceWorkplaceResponse;
-import roomit.main.domain.workplace.service.WorkplaceService;
+import roomit.main.domain.workplace.service.NearbyWorkplaceSearchService;
 
 @RestController
 @RequestMapping("/api/v1/studyroom")
@@ -39,7 +40,7 @@ import roomit.main.domain.workplace.service.WorkplaceService;
 public class StudyRoomController {
 
     private final StudyRoomService studyRoomService;
-    private final WorkplaceService workplaceService;
+    private final NearbyWorkplaceSearchService nearbyWorkplaceSearchService;
 
     //스터디룸 등록
     @ResponseStatus(HttpStatus.CREATED)
@@ -91,12 +92,21 @@ public class StudyRoomController {
         return studyRoomService.getPossibleReservation(studyRoomId, checkDate);
     }
 
+    // 사업장의 전체 스터디룸 기간별 예약 가능 시간대 (최대 31일)
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/calendar/{workplaceId}")
+    public StudyRoomCalendarResponse getAvailabilityCalendar(@PathVariable @Positive Long workplaceId,
+                                                             @RequestParam LocalDate startDate,
+                                                             @RequestParam LocalDate endDate) {
+        return studyRoomService.getAvailabilityCalendar(workplaceId, startDate, endDate);
+    }
+
     // 검색 필터링
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/available")
-    public List<FindPossibleStudyRoomResponse> findAvailableStudyRooms(@RequestBody @Valid FindAvailableStudyRoomRequest request) {
-        List<DistanceWorkplaceResponse> searchWorkPlace = workplaceService.findNearbyWorkplaces(request.address(), 10000);
-
-        return studyRoomService.findAvailableStudyRooms(request, searchWorkPlace);
+    public CompletableFuture<List<FindPossibleStudyRoomResponse>> findAvailableStudyRooms(@RequestBody @Valid FindAvailableStudyRoomRequest request) {
+        // 좌표 변환을 기다리는 동안 요청 스레드와 DB 커넥션을 점유하지 않음
+        return nearbyWorkplaceSearchService.findNearbyWorkplacesAsync(request.address(), 10000)
+            .thenApply(searchWorkPlace -> studyRoomService.findAvailableStudyRooms(request, searchWorkPlace));
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package roomit.main.domain.studyroom.dto.response;
+
+import roomit.main.domain.studyroom.service.DailySlotMask;
+
+public record AvailableSlotResponse(
+    String startTime,   //예약 가능 시작 시간 (HH:mm)
+    String endTime      //예약 가능 종료 시간 (HH:mm, 자정은 24:00)
+) {
+
+  public static AvailableSlotResponse from(DailySlotMask.SlotRange range) {
+    return new AvailableSlotResponse(range.startTime(), range.endTime());
+  }
+}
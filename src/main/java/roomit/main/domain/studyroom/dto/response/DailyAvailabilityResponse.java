@@ -0,0 +1,10 @@
+package roomit.main.domain.studyroom.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DailyAvailabilityResponse(
+    LocalDate date,                                 //날짜
+    List<AvailableSlotResponse> availableSlots      //예약 가능한 연속 시간대 (30분 단위)
+) {
+}
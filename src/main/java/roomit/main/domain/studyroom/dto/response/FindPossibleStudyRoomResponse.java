@@ -1,7 +1,6 @@
 package roomit.main.domain.studyroom.dto.response;
 
 import roomit.main.domain.studyroom.entity.StudyRoom;
-import roomit.main.global.service.FileLocationService;
 
 public record FindPossibleStudyRoomResponse(
     Long studyroomId,
@@ -16,7 +15,7 @@ public record FindPossibleStudyRoomResponse(
     Double distance
 ){
 
-  public FindPossibleStudyRoomResponse (StudyRoom studyRoom, Double distance, FileLocationService fileLocationService){
+  public FindPossibleStudyRoomResponse (StudyRoom studyRoom, Double distance, String imageUrl){
     this(
         studyRoom.getStudyRoomId(),
         studyRoom.getWorkPlace().getWorkplaceName().getValue(),
@@ -26,7 +25,7 @@ public record FindPossibleStudyRoomResponse(
         studyRoom.getWorkPlace().getWorkplaceAddress().getValue(),
         studyRoom.getCapacity(),
         studyRoom.getPrice(),
-        fileLocationService.getImagesFromFolder(studyRoom.getWorkPlace().getImageUrl().getValue()).get(0),
+        imageUrl,
         distance
     );
   }
@@ -8,21 +8,22 @@ import roomit.main.domain.studyroom.entity.StudyRoom;
 public record ReservationPossibleStudyRoomResponse(
     Integer capacity,                                         //예약 가능한 인원수
     List<String> possibleTime,                                //예약 가능한 시간
+    List<AvailableSlotResponse> availableSlots,               //예약 가능한 연속 시간대 (30분 단위)
     @DateTimeFormat(pattern = "HH:mm") String startTime,      //영업 시작 시간
     @DateTimeFormat(pattern = "HH:mm") String endTime         //영업 종료 시간
 ){
 
   public ReservationPossibleStudyRoomResponse(StudyRoom studyRoom,
                                               List<String> possibleTime,
+                                              List<AvailableSlotResponse> availableSlots,
                                               LocalTime startTime,
                                               LocalTime endTime) {
     this(
         studyRoom.getCapacity(),
         possibleTime,
+        availableSlots,
         startTime.toString(),
         endTime.toString()
     );
   }
 }
-
-
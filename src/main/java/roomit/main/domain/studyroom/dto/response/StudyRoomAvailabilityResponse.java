@@ -0,0 +1,21 @@
+package roomit.main.domain.studyroom.dto.response;
+
+import java.util.List;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+
+public record StudyRoomAvailabilityResponse(
+    Long studyRoomId,
+    String studyRoomName,
+    Integer capacity,
+    List<DailyAvailabilityResponse> days
+) {
+
+  public StudyRoomAvailabilityResponse(StudyRoom studyRoom, List<DailyAvailabilityResponse> days) {
+    this(
+        studyRoom.getStudyRoomId(),
+        studyRoom.getStudyRoomName().getValue(),
+        studyRoom.getCapacity(),
+        days
+    );
+  }
+}
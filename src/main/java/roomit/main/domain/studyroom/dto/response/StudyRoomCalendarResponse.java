@@ -0,0 +1,15 @@
+package roomit.main.domain.studyroom.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record StudyRoomCalendarResponse(
+    Long workplaceId,
+    LocalDate startDate,                                      //조회 시작일
+    LocalDate endDate,                                        //조회 종료일 (포함)
+    @DateTimeFormat(pattern = "HH:mm") String startTime,      //영업 시작 시간
+    @DateTimeFormat(pattern = "HH:mm") String endTime,        //영업 종료 시간
+    List<StudyRoomAvailabilityResponse> studyRooms
+) {
+}
@@ -18,7 +18,7 @@ public record StudyRoomListResponse(
         studyRoom.getStudyRoomId(),
         studyRoom.getStudyRoomName().getValue(),
         studyRoom.getDescription(),
-        fileLocationService.getImagesFromFolder(studyRoom.getImageUrl().getValue()),
+        fileLocationService.getImages(studyRoom.getImageUrl()),
         studyRoom.getPrice(),
         studyRoom.getCapacity()
     );
@@ -22,7 +22,7 @@ public record StudyRoomResponse(
             studyRoom.getWorkPlace().getWorkplaceName().getValue(),
             studyRoom.getStudyRoomName().getValue(),
             studyRoom.getDescription(),
-            fileLocationService.getImagesFromFolder(studyRoom.getImageUrl().getValue()),
+            fileLocationService.getImages(studyRoom.getImageUrl()),
             studyRoom.getPrice(),
             studyRoom.getCapacity()
         );
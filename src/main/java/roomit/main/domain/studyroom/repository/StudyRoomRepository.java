@@ -3,6 +3,7 @@ package roomit.main.domain.studyroom.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,8 +17,20 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom,Long>, Sear
     @Query("SELECT sr FROM StudyRoom sr JOIN sr.workPlace wp WHERE wp.workplaceId = :workplaceId")
     List<StudyRoom> findStudyRoomsByWorkPlaceId(@Param("workplaceId") Long workplaceId);
 
+    // 사업자의 전체 스터디룸 (대시보드의 운영 시간 계산용으로 사업장 함께 조회)
+    @Query("SELECT sr FROM StudyRoom sr JOIN FETCH sr.workPlace wp WHERE wp.business.businessId = :businessId ORDER BY sr.studyRoomId")
+    List<StudyRoom> findWithWorkplaceByBusinessId(@Param("businessId") Long businessId);
+
 
     @Query("SELECT sr FROM StudyRoom sr JOIN FETCH sr.workPlace WHERE sr.studyRoomId = :studyRoomId")
     Optional<StudyRoom> findByIdWithWorkplace(@Param("studyRoomId") Long studyRoomId);
 
-}
\ No newline at end of file
+    Optional<StudyRoom> findByImageUrlValue(String imageUrl);
+
+    List<StudyRoom> findByImageUrlValueStartingWith(String imageUrlPrefix);
+
+    // 이미지 key 목록이 아직 수집되지 않은 스터디룸 (백필용)
+    @Query("SELECT sr FROM StudyRoom sr WHERE sr.studyRoomId > :lastId AND sr.imageUrl.imageKeys IS NULL ORDER BY sr.studyRoomId")
+    List<StudyRoom> findWithoutImageManifest(@Param("lastId") Long lastId, Pageable pageable);
+
+}
@@ -1,8 +1,17 @@
 package roomit.main.domain.studyroom.repository.search;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import roomit.main.domain.studyroom.entity.StudyRoom;
 
 public interface SearchStudyRoom {
   List<StudyRoom> findByWorkPlaceId(List<Long> workplaceIds, Integer reservationCapacity);
+
+  /**
+   * 시간대가 비어 있는 스터디룸을 사업장과 함께 조회 (거리순 정렬은 호출하는 쪽에서)
+   * @param workplaceIds 공간 검색으로 찾은 사업장 ID
+   */
+  List<StudyRoom> findAvailableStudyRooms(Collection<Long> workplaceIds, Integer reservationCapacity,
+      LocalDateTime startTime, LocalDateTime endTime);
 }
@@ -1,11 +1,17 @@
 package roomit.main.domain.studyroom.repository.search;
 
+import static roomit.main.domain.reservation.entity.QReservation.reservation;
 import static roomit.main.domain.studyroom.entity.QStudyRoom.studyRoom;
+import static roomit.main.domain.workplace.entity.QWorkplace.workplace;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import roomit.main.domain.reservation.entity.ReservationState;
 import roomit.main.domain.studyroom.entity.StudyRoom;
 
 @Repository
@@ -30,4 +36,32 @@ public class SearchStudyRoomImpl implements SearchStudyRoom {
         .distinct() // 중복 제거
         .fetch();
   }
+
+  @Override
+  public List<StudyRoom> findAvailableStudyRooms(Collection<Long> workplaceIds, Integer reservationCapacity,
+      LocalDateTime startTime, LocalDateTime endTime) {
+
+    if (workplaceIds.isEmpty()) {
+      return List.of();
+    }
+
+    return queryFactory
+        .selectFrom(studyRoom)
+        .join(studyRoom.workPlace, workplace).fetchJoin()
+        .where(
+            workplace.workplaceId.in(workplaceIds),
+            studyRoom.capacity.goe(reservationCapacity),
+            // 요청 시간대와 겹치는 점유 예약(ReservationState.OCCUPYING)이 없는 스터디룸만 (studyroom_id, start_time, end_time, state 인덱스 사용)
+            JPAExpressions.selectOne()
+                .from(reservation)
+                .where(
+                    reservation.studyRoom.eq(studyRoom),
+                    reservation.startTime.lt(endTime),
+                    reservation.endTime.gt(startTime),
+                    reservation.reservationState.in(ReservationState.OCCUPYING)
+                )
+                .notExists()
+        )
+        .fetch();
+  }
 }
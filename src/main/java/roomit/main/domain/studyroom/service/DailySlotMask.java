@@ -0,0 +1,108 @@
+package roomit.main.domain.studyroom.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하루를 30분 슬롯 48개로 나누어 long 비트마스크로 표현 (i 번째 비트 = i * 30분 부터 30분)
+ * 예약 가능 여부 확인과 빈 시간대 계산을 비트 연산으로 처리
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DailySlotMask {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    public record SlotRange(int startMinute, int endMinute) {
+
+        public String startTime() {
+            return format(startMinute);
+        }
+
+        // 하루 끝은 24:00 으로 표시
+        public String endTime() {
+            return format(endMinute);
+        }
+
+        private static String format(int minute) {
+            return String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
+
+    /**
+     * [startMinute, endMinute) 와 조금이라도 겹치는 슬롯 (예약이 차지하는 슬롯)
+     */
+    public static long covering(int startMinute, int endMinute) {
+        int start = Math.max(0, startMinute);
+        int end = Math.min(MINUTES_PER_DAY, endMinute);
+        if (start >= end) {
+            return 0L;
+        }
+        return range(start / SLOT_MINUTES, (end + SLOT_MINUTES - 1) / SLOT_MINUTES);
+    }
+
+    /**
+     * [startMinute, endMinute) 안에 완전히 들어가는 슬롯 (운영 시간)
+     */
+    public static long within(int startMinute, int endMinute) {
+        int start = Math.max(0, startMinute);
+        int end = Math.min(MINUTES_PER_DAY, endMinute);
+        int from = (start + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int to = end / SLOT_MINUTES;
+        return (from >= to) ? 0L : range(from, to);
+    }
+
+    // 종료 시간이 시작 시간보다 이르거나 같으면(00:00 마감 등) 자정까지 운영으로 봄
+    public static long operatingHours(LocalTime open, LocalTime close) {
+        int openMinute = minuteOf(open);
+        int closeMinute = close.isAfter(open) ? minuteOf(close) : MINUTES_PER_DAY;
+        return within(openMinute, closeMinute);
+    }
+
+    /**
+     * 예약 [start, end) 가 date 하루 중 차지하는 슬롯 (날짜를 넘는 예약은 잘라서 계산)
+     */
+    public static long occupied(LocalDate date, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        if (!start.isBefore(dayEnd) || !end.isAfter(dayStart)) {
+            return 0L;
+        }
+        int startMinute = start.isBefore(dayStart) ? 0 : minuteOf(start.toLocalTime());
+        int endMinute = end.isBefore(dayEnd) ? minuteOf(end.toLocalTime()) : MINUTES_PER_DAY;
+        return covering(startMinute, endMinute);
+    }
+
+    public static boolean isFree(long freeMask, long requested) {
+        return requested != 0L && (freeMask & requested) == requested;
+    }
+
+    /**
+     * 연속된 슬롯을 묶어서 시간대 목록으로 변환
+     */
+    public static List<SlotRange> ranges(long mask) {
+        List<SlotRange> ranges = new ArrayList<>();
+        long remaining = mask;
+        while (remaining != 0L) {
+            int from = Long.numberOfTrailingZeros(remaining);
+            int to = Long.numberOfTrailingZeros(~(remaining >>> from)) + from;
+            ranges.add(new SlotRange(from * SLOT_MINUTES, to * SLOT_MINUTES));
+            remaining &= ~range(from, to);
+        }
+        return ranges;
+    }
+
+    public static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static long range(int from, int to) {
+        return ((1L << (to - from)) - 1) << from;
+    }
+}
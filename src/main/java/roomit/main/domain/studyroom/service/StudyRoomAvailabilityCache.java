@@ -0,0 +1,99 @@
+package roomit.main.domain.studyroom.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.reservation.service.ReservationChangedEvent;
+import roomit.main.global.util.BumblebeeStringUtil;
+
+/**
+ * 스터디룸별/날짜별 예약된 슬롯 비트마스크를 Redis hash 에 캐싱
+ * key: studyroom:availability:{studyRoomId}, field: yyyy-MM-dd, value: 예약된 슬롯 마스크
+ * 운영 시간은 사업장 수정으로 바뀔 수 있으므로 캐싱하지 않고 조회 시 조합
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyRoomAvailabilityCache {
+
+    private static final String KEY_FORMAT = "studyroom:availability:{}";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReservationRepository reservationRepository;
+
+    @Value("${studyroom.availability.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${studyroom.availability.cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    public long reservedMask(Long studyRoomId, LocalDate date) {
+        if (!enabled) {
+            return loadReservedMask(studyRoomId, date);
+        }
+
+        String key = key(studyRoomId);
+        try {
+            Object cached = redisTemplate.opsForHash().get(key, date.toString());
+            if (cached instanceof Number mask) {
+                return mask.longValue();
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 시간 캐시 조회 실패 - studyRoomId={}, date={}", studyRoomId, date, e);
+            return loadReservedMask(studyRoomId, date);
+        }
+
+        long mask = loadReservedMask(studyRoomId, date);
+        try {
+            redisTemplate.opsForHash().put(key, date.toString(), mask);
+            redisTemplate.expire(key, Duration.ofMinutes(ttlMinutes));
+        } catch (RuntimeException e) {
+            log.warn("예약 시간 캐시 저장 실패 - studyRoomId={}, date={}", studyRoomId, date, e);
+        }
+        return mask;
+    }
+
+    // 예약이 걸쳐 있는 날짜들의 캐시를 지우고 다음 조회 때 다시 계산
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Object> dates = new ArrayList<>();
+        for (LocalDate date = event.startTime().toLocalDate();
+             !date.isAfter(event.endTime().toLocalDate()); date = date.plusDays(1)) {
+            dates.add(date.toString());
+        }
+        try {
+            redisTemplate.opsForHash().delete(key(event.studyRoomId()), dates.toArray());
+        } catch (RuntimeException e) {
+            log.warn("예약 시간 캐시 삭제 실패 - studyRoomId={}", event.studyRoomId(), e);
+        }
+    }
+
+    private long loadReservedMask(Long studyRoomId, LocalDate date) {
+        List<Reservation> reservations = reservationRepository.findOverlappingReservations(studyRoomId,
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), ReservationState.OCCUPYING);
+
+        long mask = 0L;
+        for (Reservation reservation : reservations) {
+            mask |= DailySlotMask.occupied(date, reservation.getStartTime(), reservation.getEndTime());
+        }
+        return mask;
+    }
+
+    private static String key(Long studyRoomId) {
+        return BumblebeeStringUtil.format(KEY_FORMAT, studyRoomId);
+    }
+}
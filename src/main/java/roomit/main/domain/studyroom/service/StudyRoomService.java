@@ -3,21 +3,29 @@ package roomit.main.domain.studyroom.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
 import roomit.main.domain.reservation.repository.ReservationRepository;
 import roomit.main.domain.studyroom.dto.request.CreateStudyRoomRequest;
 import roomit.main.domain.studyroom.dto.request.FindAvailableStudyRoomRequest;
 import roomit.main.domain.studyroom.dto.request.UpdateStudyRoomRequest;
 import roomit.main.domain.studyroom.dto.response.FindPossibleStudyRoomResponse;
+import roomit.main.domain.studyroom.dto.response.AvailableSlotResponse;
+import roomit.main.domain.studyroom.dto.response.DailyAvailabilityResponse;
 import roomit.main.domain.studyroom.dto.response.ReservationPossibleStudyRoomResponse;
+import roomit.main.domain.studyroom.dto.response.StudyRoomAvailabilityResponse;
+import roomit.main.domain.studyroom.dto.response.StudyRoomCalendarResponse;
 import roomit.main.domain.studyroom.dto.response.StudyRoomListResponse;
 import roomit.main.domain.studyroom.dto.response.StudyRoomResponse;
 import roomit.main.domain.studyroom.entity.StudyRoom;
@@ -34,11 +42,14 @@ import roomit.main.global.service.ImageService;
 @Slf4j
 public class StudyRoomService {
 
+    private static final int MAX_CALENDAR_DAYS = 31;
+
     private final StudyRoomRepository studyRoomRepository;
     private final WorkplaceRepository workplaceRepository;
     private final FileLocationService fileLocationService;
-    private final ReservationRepository reservationRepository;
     private final ImageService imageService;
+    private final StudyRoomAvailabilityCache studyRoomAvailabilityCache;
+    private final ReservationRepository reservationRepository;
 
     // 스터디룸 등록
     @Transactional
@@ -129,44 +140,94 @@ public class StudyRoomService {
     public ReservationPossibleStudyRoomResponse getPossibleReservation(Long studyRoomId,
                                                                        LocalDate checkDate) {
 
-        StudyRoom studyRoom = studyRoomRepository.findById(studyRoomId)
+        StudyRoom studyRoom = studyRoomRepository.findByIdWithWorkplace(studyRoomId)
             .orElseThrow(ErrorCode.STUDYROOM_NOT_FOUND::commonException);
 
-        List<String> existingTime = new ArrayList<>();
-        List<String> operatingHours = new ArrayList<>();
-        LocalTime WorkplaceStartTime = studyRoom.getWorkPlace().getWorkplaceStartTime();
-        LocalTime WorkplaceEndTime = studyRoom.getWorkPlace().getWorkplaceEndTime();
+        LocalTime workplaceStartTime = studyRoom.getWorkPlace().getWorkplaceStartTime();
+        LocalTime workplaceEndTime = studyRoom.getWorkPlace().getWorkplaceEndTime();
 
-        //예약되어 있는 시간 검사
-        for (Reservation existingReservation : reservationRepository.findReservationsByStudyRoomAndDate(studyRoomId, checkDate)) {
-            LocalDateTime startTime = existingReservation.getStartTime();
-            LocalDateTime endTime = existingReservation.getEndTime();
+        // 예약된 슬롯 (취소/결제 실패 예약 제외)
+        long reservedMask = studyRoomAvailabilityCache.reservedMask(studyRoomId, checkDate);
+        long freeMask = DailySlotMask.operatingHours(workplaceStartTime, workplaceEndTime) & ~reservedMask;
 
-            // 시작 시간과 종료 시간에서 시간만 추출해 저장
-            while (!startTime.isAfter(endTime)) {
-                existingTime.add(startTime.toLocalTime().withMinute(0).toString()); // HH:mm 형식으로 저장
-                startTime = startTime.plusHours(1); // 한 시간씩 증가
-            }
+        return new ReservationPossibleStudyRoomResponse(studyRoom,
+                                                        possibleHours(workplaceStartTime, workplaceEndTime, reservedMask),
+                                                        DailySlotMask.ranges(freeMask).stream()
+                                                                     .map(AvailableSlotResponse::from)
+                                                                     .toList(),
+                                                        workplaceStartTime,
+                                                        workplaceEndTime);
+    }
+
+    // 사업장의 모든 스터디룸에 대한 기간별 예약 가능 시간대 (달력 화면용, 예약 조회 1회)
+    @Transactional(readOnly = true)
+    public StudyRoomCalendarResponse getAvailabilityCalendar(Long workplaceId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)
+                || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_CALENDAR_DAYS) {
+            throw ErrorCode.STUDYROOM_INVALID_DATE_RANGE.commonException();
         }
 
-        //운영 시간 생성
-        while(!WorkplaceStartTime.isAfter(WorkplaceEndTime)){
-            operatingHours.add(WorkplaceStartTime.toString());
-            WorkplaceStartTime = WorkplaceStartTime.plusHours(1);
-            if(WorkplaceStartTime.equals(WorkplaceEndTime)){
-                break;
-            }
+        Workplace workplace = workplaceRepository.findById(workplaceId)
+            .orElseThrow(ErrorCode.WORKPLACE_NOT_FOUND::commonException);
+        List<StudyRoom> studyRooms = studyRoomRepository.findStudyRoomsByWorkPlaceId(workplaceId);
+
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
 
+        // 스터디룸별 날짜별 예약된 슬롯
+        Map<Long, long[]> reservedMasks = new HashMap<>();
+        studyRooms.forEach(studyRoom -> reservedMasks.put(studyRoom.getStudyRoomId(), new long[days]));
+        if (!studyRooms.isEmpty()) {
+            List<Reservation> reservations = reservationRepository.findOverlappingReservationsByStudyRooms(
+                reservedMasks.keySet(), from.minus(Reservation.MAX_DURATION), from, to, ReservationState.OCCUPYING);
+
+            for (Reservation reservation : reservations) {
+                long[] masks = reservedMasks.get(reservation.getStudyRoom().getStudyRoomId());
+                LocalDate first = reservation.getStartTime().toLocalDate().isBefore(startDate)
+                    ? startDate : reservation.getStartTime().toLocalDate();
+                for (LocalDate date = first; !date.isAfter(endDate)
+                    && date.atStartOfDay().isBefore(reservation.getEndTime()); date = date.plusDays(1)) {
+                    masks[(int) ChronoUnit.DAYS.between(startDate, date)] |= DailySlotMask.occupied(
+                        date, reservation.getStartTime(), reservation.getEndTime());
+                }
+            }
         }
 
-        List<String> possibleTime = operatingHours.stream()
-                                                  .filter(i -> !existingTime.contains(i))
-                                                  .toList();
+        long operatingMask = DailySlotMask.operatingHours(workplace.getWorkplaceStartTime(),
+            workplace.getWorkplaceEndTime());
 
-        return new ReservationPossibleStudyRoomResponse(studyRoom,
-                                                        possibleTime,
-                                                        studyRoom.getWorkPlace().getWorkplaceStartTime(),
-                                                        studyRoom.getWorkPlace().getWorkplaceEndTime());
+        List<StudyRoomAvailabilityResponse> rooms = studyRooms.stream()
+            .map(studyRoom -> {
+                long[] masks = reservedMasks.get(studyRoom.getStudyRoomId());
+                List<DailyAvailabilityResponse> availability = new ArrayList<>(days);
+                for (int day = 0; day < days; day++) {
+                    availability.add(new DailyAvailabilityResponse(startDate.plusDays(day),
+                        DailySlotMask.ranges(operatingMask & ~masks[day]).stream()
+                            .map(AvailableSlotResponse::from)
+                            .toList()));
+                }
+                return new StudyRoomAvailabilityResponse(studyRoom, availability);
+            })
+            .toList();
+
+        return new StudyRoomCalendarResponse(workplaceId, startDate, endDate,
+            workplace.getWorkplaceStartTime().toString(), workplace.getWorkplaceEndTime().toString(), rooms);
+    }
+
+    // 영업 시작 시간부터 1시간 단위 시간 중 예약과 겹치지 않는 시간 (HH:mm)
+    private List<String> possibleHours(LocalTime startTime, LocalTime endTime, long reservedMask) {
+        int openMinute = DailySlotMask.minuteOf(startTime);
+        int closeMinute = endTime.isAfter(startTime) ? DailySlotMask.minuteOf(endTime) : 24 * 60;
+
+        List<String> possibleTime = new ArrayList<>();
+        for (int minute = openMinute; minute < closeMinute; minute += 60) {
+            long hour = DailySlotMask.covering(minute, Math.min(minute + 60, closeMinute));
+            if ((hour & reservedMask) == 0L) {
+                possibleTime.add(LocalTime.of(minute / 60, minute % 60).toString());
+            }
+        }
+        return possibleTime;
     }
 
 
@@ -175,32 +236,29 @@ public class StudyRoomService {
     public List<FindPossibleStudyRoomResponse> findAvailableStudyRooms(FindAvailableStudyRoomRequest request,
         List<DistanceWorkplaceResponse> searchWorkplace) {
 
-        // 검색된 Workplace ID
-        List<Long> workplaceIds = searchWorkplace.stream()
-            .map(DistanceWorkplaceResponse::workplaceId)
+        // 검색된 Workplace ID -> 거리 (공간 검색 결과는 사업장당 하나)
+        Map<Long, Double> workplaceDistances = searchWorkplace.stream()
+            .collect(Collectors.toMap(DistanceWorkplaceResponse::workplaceId, DistanceWorkplaceResponse::distance,
+                (first, second) -> first));
+
+        // 겹치는 예약 필터링은 DB 에서, 거리순 정렬은 이미 가진 공간 검색 결과로 메모리에서 처리
+        // (사업장 수만큼 CASE 식을 만들면 SQL 이 매번 달라져 statement 캐시를 쓸 수 없음)
+        List<StudyRoom> studyRooms = studyRoomRepository.findAvailableStudyRooms(workplaceDistances.keySet(),
+                request.reservationCapacity(), request.startDateTime(), request.endDateTime()).stream()
+            .sorted(Comparator.comparingDouble((StudyRoom studyRoom) ->
+                    workplaceDistances.get(studyRoom.getWorkPlace().getWorkplaceId()))
+                .thenComparing(StudyRoom::getStudyRoomId))
             .toList();
 
-        List<StudyRoom> studyRooms = studyRoomRepository.findByWorkPlaceId(workplaceIds, request.reservationCapacity());
+        Map<String, String> thumbnails = fileLocationService.resolveThumbnailsByImageUrl(studyRooms.stream()
+            .map(studyRoom -> studyRoom.getWorkPlace().getImageUrl())
+            .toList());
 
-        // 예약이 있는 경우에 대해서만 필터링
         return studyRooms.stream()
-            .filter(studyRoom -> studyRoom.getReservations().stream()
-                .noneMatch(reservation ->
-                    reservation.getStartTime().isBefore(request.endDateTime()) &&
-                        reservation.getEndTime().isAfter(request.startDateTime())
-                )) // 예약이 겹치지 않는 경우만 필터링
-            .map(studyRoom -> {
-                // studyRoom의 workplaceId와 searchWorkplace의 workplaceId를 비교하여 일치하는 distance를 찾음
-                double distance = searchWorkplace.stream()
-                    .filter(workplace -> workplace.workplaceId().equals(studyRoom.getWorkPlace().getWorkplaceId()))
-                    .map(DistanceWorkplaceResponse::distance)
-                    .findFirst()
-                    .orElse(0.0); // 기본값 0.0, 일치하는 경우가 없으면 0.0을 반환
-
-                return new FindPossibleStudyRoomResponse(studyRoom, distance, fileLocationService);
-            })
-            .sorted(Comparator.comparingDouble(FindPossibleStudyRoomResponse::distance))
-            .collect(Collectors.toList());
+            .map(studyRoom -> new FindPossibleStudyRoomResponse(studyRoom,
+                workplaceDistances.get(studyRoom.getWorkPlace().getWorkplaceId()),
+                thumbnails.get(studyRoom.getWorkPlace().getImageUrl().getValue())))
+            .toList();
     }
 
 }
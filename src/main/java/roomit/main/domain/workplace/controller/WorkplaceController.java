@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import roomit.main.domain.business.dto.CustomBusinessDetails;
@@ -21,6 +22,7 @@ import roomit.main.domain.workplace.dto.response.WorkplaceAllResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceBusinessResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceCreateResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceDetailResponse;
+import roomit.main.domain.workplace.dto.response.WorkplaceNearestResponse;
 import roomit.main.domain.workplace.service.WorkplaceService;
 
 @RestController
@@ -36,6 +38,16 @@ public class WorkplaceController {
         return workplaceService.readAllWorkplaces(request);
     }
 
+    // 가까운 순 사업장 조회, cursor 로 다음 페이지(더 먼 사업장) 조회
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/nearest")
+    public WorkplaceNearestResponse getNearestWorkplaces(@RequestParam Double latitude,
+                                                         @RequestParam Double longitude,
+                                                         @RequestParam(defaultValue = "10") Integer size,
+                                                         @RequestParam(required = false) String cursor) {
+        return workplaceService.readNearestWorkplaces(latitude, longitude, size, cursor);
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/info/{workplaceId}")
     public WorkplaceDetailResponse getWorkplace(@PathVariable Long workplaceId) {
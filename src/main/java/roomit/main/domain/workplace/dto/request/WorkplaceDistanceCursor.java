@@ -0,0 +1,35 @@
+package roomit.main.domain.workplace.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import roomit.main.global.error.ErrorCode;
+
+/**
+ * 거리순 조회의 다음 페이지 위치 (마지막 사업장의 거리, id)
+ * 클라이언트에는 불투명한 문자열 토큰으로 전달
+ */
+public record WorkplaceDistanceCursor(
+        double distance,
+        long workplaceId
+) {
+    // 첫 페이지: 모든 사업장이 이 위치보다 뒤에 있음
+    public static final WorkplaceDistanceCursor FIRST = new WorkplaceDistanceCursor(-1, 0);
+
+    public static WorkplaceDistanceCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            return new WorkplaceDistanceCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw ErrorCode.WORKPLACE_INVALID_REQUEST.commonException();
+        }
+    }
+
+    public String encode() {
+        // Double.toString 은 같은 double 값으로 정확히 복원됨
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((distance + ":" + workplaceId).getBytes(StandardCharsets.UTF_8));
+    }
+}
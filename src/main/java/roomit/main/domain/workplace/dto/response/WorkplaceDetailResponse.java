@@ -28,7 +28,7 @@ public record WorkplaceDetailResponse(
                 workplace.getWorkplacePhoneNumber().getValue(),
                 workplace.getWorkplaceDescription(),
                 workplace.getWorkplaceAddress().getValue(),
-                fileLocationService.getImagesFromFolder(workplace.getImageUrl().getValue()).get(0),
+                fileLocationService.getThumbnail(workplace.getImageUrl()),
                 workplace.getWorkplaceStartTime(),
                 workplace.getWorkplaceEndTime(),
                 workplace.getLocation().getCoordinate().getY(),
@@ -0,0 +1,12 @@
+package roomit.main.domain.workplace.dto.response;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 사용할 토큰 (더 이상 결과가 없으면 null)
+ */
+public record WorkplaceNearestResponse(
+        List<WorkplaceAllResponse> workplaces,
+        String nextCursor
+) {
+}
@@ -14,12 +14,16 @@ public record WorkplaceResponse(
         LocalDateTime createdAt
 ) {
     public WorkplaceResponse(Workplace workplace, FileLocationService fileLocationService) {
+        this(workplace, fileLocationService.getThumbnail(workplace.getImageUrl()));
+    }
+
+    public WorkplaceResponse(Workplace workplace, String imageUrl) {
         this(
                 workplace.getWorkplaceId(),
                 workplace.getWorkplaceName().getValue(),
                 workplace.getWorkplacePhoneNumber().getValue(),
                 workplace.getWorkplaceAddress().getValue(),
-                fileLocationService.getImagesFromFolder(workplace.getImageUrl().getValue()).get(0),
+                imageUrl,
                 (long) workplace.getStudyRoom().size(),
                 workplace.getCreatedAt()
         );
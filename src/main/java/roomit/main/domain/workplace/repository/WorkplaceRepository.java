@@ -1,6 +1,13 @@
 package roomit.main.domain.workplace.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,7 +29,8 @@ public interface WorkplaceRepository extends JpaRepository<Workplace, Long> , Wo
            ST_Distance(
                ST_Transform(ST_GeomFromText(:referencePoint, 5181), ST_SRID(w.location)),
                w.location
-           ) * 100 AS distance
+           ) * 100 AS distance,
+           w.image_keys
     FROM workplace w
     WHERE ST_Within(
               w.location,
@@ -45,4 +53,45 @@ public interface WorkplaceRepository extends JpaRepository<Workplace, Long> , Wo
     @Query("UPDATE Workplace w SET w.starSum = w.starSum + :rating, w.reviewCount = w.reviewCount + 1 WHERE w.workplaceId = :workplaceId")
     void updateRatingAndCount(@Param("rating") Long rating, @Param("workplaceId") Long workplaceId);
 
+    // 추천 점수 계산용 (workplace_id, star_sum, review_count)
+    @Query("SELECT w.workplaceId, w.starSum, w.reviewCount FROM Workplace w ORDER BY w.workplaceId")
+    List<Object[]> findAllReviewStats();
+
+    // 목록의 대표 이미지용 (이미지 폴더 URL 과 저장된 이미지 key 목록만)
+    @Query("SELECT w.workplaceId, w.imageUrl FROM Workplace w WHERE w.workplaceId IN :workplaceIds")
+    List<Object[]> findImageUrlsByIds(@Param("workplaceIds") Collection<Long> workplaceIds);
+
+    // 위치 인덱스 적재용 (엔티티/연관관계 없이 지도 카드에 필요한 컬럼만), workplace_id 순으로 나눠서 조회
+    @Query("""
+        SELECT w.workplaceId, w.workplaceName.value, w.workplaceAddress.value,
+               w.imageUrl.value, w.imageUrl.imageKeys, w.starSum, w.reviewCount, w.location
+        FROM Workplace w
+        WHERE w.workplaceId > :lastId
+        ORDER BY w.workplaceId
+        """)
+    List<Object[]> findSpatialIndexRows(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * id 목록 순서를 유지해서 한 번에 조회 (없는 id 는 제외)
+     */
+    default List<Workplace> findAllByIdInOrder(List<Long> workplaceIds) {
+        if (workplaceIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Workplace> workplaces = findAllById(workplaceIds).stream()
+                .collect(Collectors.toMap(Workplace::getWorkplaceId, Function.identity()));
+
+        return workplaceIds.stream()
+                .distinct()
+                .map(workplaces::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    Optional<Workplace> findByImageUrlValue(String imageUrl);
+
+    // 이미지 key 목록이 아직 수집되지 않은 사업장 (백필용)
+    @Query("SELECT w FROM Workplace w WHERE w.workplaceId > :lastId AND w.imageUrl.imageKeys IS NULL ORDER BY w.workplaceId")
+    List<Workplace> findWithoutImageManifest(@Param("lastId") Long lastId, Pageable pageable);
+
 }
@@ -0,0 +1,67 @@
+package roomit.main.domain.workplace.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * workplace.projected_location (5181 좌표계로 변환된 위치, STORED 생성 컬럼)과 SPATIAL 인덱스가 있는지 감지
+ * 스키마 변경은 resources/db/workplace-projected-location.sql 로 배포 전에 적용하고, 여기서는 조회만 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkplaceSpatialSchemaDetector {
+
+    static final String PROJECTED_COLUMN = "projected_location";
+    static final String PROJECTED_INDEX = "idx_workplace_projected_location";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${workplace.projected-location.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean available;
+
+    // 컬럼과 인덱스가 준비된 경우에만 인덱스를 사용하는 쿼리를 실행
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void detect() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            available = exists("""
+                    SELECT COUNT(*) FROM information_schema.columns
+                    WHERE table_schema = DATABASE() AND table_name = 'workplace' AND column_name = ?
+                    """, PROJECTED_COLUMN)
+                && exists("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = 'workplace' AND index_name = ?
+                    """, PROJECTED_INDEX);
+        } catch (RuntimeException e) {
+            log.warn("failed to detect workplace projected location", e);
+        }
+
+        if (!available) {
+            log.warn("workplace.{} or {} is missing, nearby search keeps the full scan query until db/workplace-projected-location.sql is applied",
+                PROJECTED_COLUMN, PROJECTED_INDEX);
+        }
+    }
+
+    private boolean exists(String sql, String name) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, name);
+        return count != null && count > 0;
+    }
+}
@@ -5,4 +5,8 @@ import roomit.main.domain.workplace.dto.response.DistanceWorkplaceResponse;
 
 public interface WorkplaceSearch {
   List<DistanceWorkplaceResponse> findNearbyWorkplaces(Double longitude, Double latitude, Double maxDistance);
+
+  // 거리, id 순으로 (lastDistance, lastId) 다음부터 size 개 조회
+  List<DistanceWorkplaceResponse> findNearestWorkplaces(Double longitude, Double latitude,
+                                                        Double lastDistance, Long lastId, int size);
 }
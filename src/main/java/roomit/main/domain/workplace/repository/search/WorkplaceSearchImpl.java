@@ -4,24 +4,159 @@ import static com.querydsl.core.types.dsl.Expressions.numberTemplate;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import roomit.main.domain.workplace.dto.response.DistanceWorkplaceResponse;
 import roomit.main.domain.workplace.entity.QWorkplace;
+import roomit.main.domain.workplace.repository.WorkplaceSpatialSchemaDetector;
 
 @Repository
 @Slf4j
 public class WorkplaceSearchImpl implements WorkplaceSearch  {
 
+  /*
+   * projected_location 의 SPATIAL 인덱스로 기준점 주변 사각형(MBRContains)만 먼저 거르고,
+   * 남은 행에 대해서만 거리를 한 번 계산 (HAVING/ORDER BY 는 SELECT 의 distance 를 재사용)
+   */
+  private static final String NEARBY_WITH_INDEX_SQL = """
+      SELECT w.workplace_id,
+             ST_Distance(w.projected_location, ST_GeomFromText(:point, 5181)) * 100 AS distance
+      FROM workplace w
+      WHERE MBRContains(ST_GeomFromText(:envelope, 5181), w.projected_location)
+      HAVING distance <= :maxDistance * 100
+      ORDER BY distance ASC
+      """;
+
+  /*
+   * 거리순 keyset 페이지 조회를 반경 radius 의 사각형(MBRContains) 안에서만 수행
+   * 반경 안의 점은 모두 사각형 안에 있으므로 distance <= radius 인 결과가 size 개 나오면 그대로 정답
+   */
+  private static final String NEAREST_WITH_INDEX_SQL = """
+      SELECT w.workplace_id,
+             ST_Distance(w.projected_location, ST_GeomFromText(:point, 5181)) * 100 AS distance
+      FROM workplace w
+      WHERE MBRContains(ST_GeomFromText(:envelope, 5181), w.projected_location)
+      HAVING distance <= :radius * 100
+         AND (distance > :lastDistance
+          OR (distance = :lastDistance AND w.workplace_id > :lastId))
+      ORDER BY distance ASC, w.workplace_id ASC
+      LIMIT :size
+      """;
+
+  // 첫 반경 (직전 페이지 거리 + 이 값), 부족하면 두 배씩 넓힘
+  private static final double NEAREST_INITIAL_RADIUS = 0.01;
+  private static final int NEAREST_MAX_EXPANSIONS = 6;
+
+  // 거리순 keyset 페이지 조회 (OFFSET 없이 마지막 (거리, id) 다음부터)
+  private static final String NEAREST_SQL = """
+      SELECT w.workplace_id,
+             %s * 100 AS distance
+      FROM workplace w
+      HAVING distance > :lastDistance
+          OR (distance = :lastDistance AND w.workplace_id > :lastId)
+      ORDER BY distance ASC, w.workplace_id ASC
+      LIMIT :size
+      """;
+
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+  private final WorkplaceSpatialSchemaDetector spatialSchemaDetector;
 
-  public WorkplaceSearchImpl(JPAQueryFactory queryFactory) {
+  public WorkplaceSearchImpl(JPAQueryFactory queryFactory, EntityManager entityManager,
+                             WorkplaceSpatialSchemaDetector spatialSchemaDetector) {
     this.queryFactory = queryFactory;
+    this.entityManager = entityManager;
+    this.spatialSchemaDetector = spatialSchemaDetector;
   }
 
+  // 좌표 변환이 끝난 뒤 이 쿼리 동안만 커넥션을 사용하도록 자체 트랜잭션으로 실행
   @Override
+  @Transactional(readOnly = true)
   public List<DistanceWorkplaceResponse> findNearbyWorkplaces(Double longitude, Double latitude, Double maxDistance) {
+    if (spatialSchemaDetector.isAvailable()) {
+      return findNearbyWorkplacesWithIndex(longitude, latitude, maxDistance);
+    }
+    return findNearbyWorkplacesFullScan(longitude, latitude, maxDistance);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public List<DistanceWorkplaceResponse> findNearestWorkplaces(Double longitude, Double latitude,
+                                                               Double lastDistance, Long lastId, int size) {
+    String point = String.format("POINT(%f %f)", longitude, latitude);
+
+    if (spatialSchemaDetector.isAvailable()) {
+      // 반경을 넓혀 가며 SPATIAL 인덱스로 조회, 끝까지 size 개가 안 되면(마지막 페이지 근처) 전체 조회
+      double radius = Math.max(lastDistance, 0) / 100 + NEAREST_INITIAL_RADIUS;
+      for (int expansion = 0; expansion <= NEAREST_MAX_EXPANSIONS; expansion++, radius *= 2) {
+        List<Object[]> rows = entityManager.createNativeQuery(NEAREST_WITH_INDEX_SQL)
+            .setParameter("point", point)
+            .setParameter("envelope", envelope(longitude, latitude, radius))
+            .setParameter("radius", radius)
+            .setParameter("lastDistance", lastDistance)
+            .setParameter("lastId", lastId)
+            .setParameter("size", size)
+            .getResultList();
+
+        if (rows.size() == size) {
+          return toDistanceResponses(rows);
+        }
+      }
+    }
+
+    String distance = spatialSchemaDetector.isAvailable()
+        ? "ST_Distance(w.projected_location, ST_GeomFromText(:point, 5181))"
+        : "ST_Distance(ST_Transform(w.location, 5181), ST_GeomFromText(:point, 5181))";
+
+    List<Object[]> rows = entityManager.createNativeQuery(NEAREST_SQL.formatted(distance))
+        .setParameter("point", point)
+        .setParameter("lastDistance", lastDistance)
+        .setParameter("lastId", lastId)
+        .setParameter("size", size)
+        .getResultList();
+
+    return toDistanceResponses(rows);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<DistanceWorkplaceResponse> findNearbyWorkplacesWithIndex(Double longitude, Double latitude, Double maxDistance) {
+    String point = String.format("POINT(%f %f)", longitude, latitude);
+
+    List<Object[]> rows = entityManager.createNativeQuery(NEARBY_WITH_INDEX_SQL)
+        .setParameter("point", point)
+        .setParameter("envelope", envelope(longitude, latitude, maxDistance))
+        .setParameter("maxDistance", maxDistance)
+        .getResultList();
+
+    return toDistanceResponses(rows);
+  }
+
+  // radius 만큼 넓힌 사각형 (이 안에 없는 점은 거리 radius 이내일 수 없음)
+  private static String envelope(double longitude, double latitude, double radius) {
+    return String.format(
+        "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
+        longitude - radius, latitude - radius,
+        longitude + radius, latitude - radius,
+        longitude + radius, latitude + radius,
+        longitude - radius, latitude + radius,
+        longitude - radius, latitude - radius
+    );
+  }
+
+  private static List<DistanceWorkplaceResponse> toDistanceResponses(List<Object[]> rows) {
+    return rows.stream()
+        .map(row -> new DistanceWorkplaceResponse(
+            ((Number) row[0]).longValue(),
+            ((Number) row[1]).doubleValue()
+        ))
+        .toList();
+  }
+
+  private List<DistanceWorkplaceResponse> findNearbyWorkplacesFullScan(Double longitude, Double latitude, Double maxDistance) {
 
     QWorkplace workplace = QWorkplace.workplace;
 
@@ -0,0 +1,128 @@
+package roomit.main.domain.workplace.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연령대별 협업 필터링 모델 (surprise SVD, biased)
+ * 학습 파이프라인이 내보낸 factors_{연령대}s.json (recommendation.model-location) 을 읽어
+ * 잠재 요인을 float 배열에 펼쳐서 보관
+ * 예측 값은 surprise SVD.predict 와 같음 (전체 평균 + 편향 + 요인 내적, ratingScale 로 제한)
+ */
+public class CollaborativeModel {
+
+    private final int ageGroup;
+    private final int factorCount;
+    private final double globalMean;
+    private final double lowerBound;
+    private final double upperBound;
+
+    private final Map<Long, Integer> userIndex;
+    private final double[] userBias;
+    private final float[] userFactors;
+
+    private final Map<Long, Integer> itemIndex;
+    private final double[] itemBias;
+    private final float[] itemFactors;
+
+    private CollaborativeModel(Factors factors) {
+        this.ageGroup = factors.ageGroup();
+        this.factorCount = factors.nFactors();
+        this.globalMean = factors.globalMean();
+        this.lowerBound = factors.ratingScale().get(0);
+        this.upperBound = factors.ratingScale().get(1);
+        this.userIndex = index(factors.userIds());
+        this.userBias = toArray(factors.userBias());
+        this.userFactors = flatten(factors.userFactors(), factorCount);
+        this.itemIndex = index(factors.itemIds());
+        this.itemBias = toArray(factors.itemBias());
+        this.itemFactors = flatten(factors.itemFactors(), factorCount);
+    }
+
+    public static CollaborativeModel load(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        return new CollaborativeModel(objectMapper.readValue(inputStream, Factors.class));
+    }
+
+    public int getAgeGroup() {
+        return ageGroup;
+    }
+
+    /**
+     * 한 회원의 사업장별 예상 평점을 한 번에 계산
+     * 회원 요인 벡터를 한 번만 찾고 사업장 요인 행렬(연속 배열)과 차례로 내적
+     */
+    public double[] predictAll(Long memberId, long[] workplaceIds) {
+        Integer user = userIndex.get(memberId);
+        double base = globalMean + (user == null ? 0 : userBias[user]);
+        int userOffset = user == null ? -1 : user * factorCount;
+
+        double[] predictions = new double[workplaceIds.length];
+        for (int i = 0; i < workplaceIds.length; i++) {
+            Integer item = itemIndex.get(workplaceIds[i]);
+            double estimate = base;
+            if (item != null) {
+                estimate += itemBias[item];
+                if (user != null) {
+                    estimate += dot(userOffset, item * factorCount);
+                }
+            }
+            predictions[i] = Math.min(Math.max(estimate, lowerBound), upperBound);
+        }
+        return predictions;
+    }
+
+    public double predict(Long memberId, long workplaceId) {
+        return predictAll(memberId, new long[]{workplaceId})[0];
+    }
+
+    private double dot(int userOffset, int itemOffset) {
+        double sum = 0;
+        for (int k = 0; k < factorCount; k++) {
+            sum += (double) userFactors[userOffset + k] * itemFactors[itemOffset + k];
+        }
+        return sum;
+    }
+
+    private static Map<Long, Integer> index(List<Long> ids) {
+        Map<Long, Integer> index = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            index.put(ids.get(i), i);
+        }
+        return index;
+    }
+
+    private static double[] toArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static float[] flatten(List<List<Double>> rows, int factorCount) {
+        float[] flat = new float[rows.size() * factorCount];
+        for (int row = 0; row < rows.size(); row++) {
+            List<Double> values = rows.get(row);
+            if (values.size() != factorCount) {
+                throw new IllegalArgumentException("잠재 요인 개수가 맞지 않습니다: " + values.size());
+            }
+            for (int k = 0; k < factorCount; k++) {
+                flat[row * factorCount + k] = values.get(k).floatValue();
+            }
+        }
+        return flat;
+    }
+
+    record Factors(
+            int ageGroup,
+            int nFactors,
+            double globalMean,
+            List<Double> ratingScale,
+            List<Long> userIds,
+            List<Double> userBias,
+            List<List<Double>> userFactors,
+            List<Long> itemIds,
+            List<Double> itemBias,
+            List<List<Double>> itemFactors
+    ) {}
+}
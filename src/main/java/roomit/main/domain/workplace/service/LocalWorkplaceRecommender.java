@@ -0,0 +1,68 @@
+package roomit.main.domain.workplace.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.error.ErrorCode;
+
+/**
+ * JVM 안에서 계산하는 추천 (python-server/app.py /recommend 와 같은 점수)
+ * 최종 점수 = 예상 평점 * 0.3 + 리뷰 평균 * 0.7 (1~5 로 제한, 소수 둘째 자리 반올림)
+ * 동점이면 workplace_id 가 작은 사업장이 먼저 (Flask 서버의 안정 정렬과 같음)
+ */
+@RequiredArgsConstructor
+public class LocalWorkplaceRecommender implements WorkplaceRecommender {
+
+    private static final double MODEL_WEIGHT = 0.3;
+    private static final double REVIEW_WEIGHT = 0.7;
+
+    private static final Comparator<Recommendation> BEST_FIRST = Comparator
+            .comparingDouble(Recommendation::finalScore).reversed()
+            .thenComparing(Recommendation::workplaceId);
+
+    private final Map<Integer, CollaborativeModel> models;
+    private final WorkplaceSpatialIndex workplaceSpatialIndex;
+    private final WorkplaceRepository workplaceRepository;
+
+    @Override
+    public List<Recommendation> recommend(Long memberId, int age, int n) {
+        CollaborativeModel model = models.get(WorkplaceRecommender.toAgeGroup(age));
+        if (model == null || n <= 0) {
+            throw ErrorCode.WORKPLACE_RECOMMEND_FAIL.commonException();
+        }
+
+        List<WorkplaceReviewStat> stats = WorkplaceReviewStat.load(workplaceSpatialIndex, workplaceRepository);
+        long[] workplaceIds = new long[stats.size()];
+        for (int i = 0; i < stats.size(); i++) {
+            workplaceIds[i] = stats.get(i).workplaceId();
+        }
+        double[] predictions = model.predictAll(memberId, workplaceIds);
+
+        // 상위 n 개만 유지하는 힙 (가장 낮은 순위가 맨 위)
+        PriorityQueue<Recommendation> heap = new PriorityQueue<>(n + 1, BEST_FIRST.reversed());
+        for (int i = 0; i < stats.size(); i++) {
+            double finalScore = predictions[i] * MODEL_WEIGHT + stats.get(i).reviewScore() * REVIEW_WEIGHT;
+            finalScore = Math.min(Math.max(finalScore, 1), 5);
+
+            heap.offer(new Recommendation(workplaceIds[i], round(predictions[i], 5), round(finalScore, 2)));
+            if (heap.size() > n) {
+                heap.poll();
+            }
+        }
+
+        List<Recommendation> recommendations = new ArrayList<>(heap);
+        recommendations.sort(BEST_FIRST);
+        return recommendations;
+    }
+
+    // Python round() 와 같이 실제 double 값 기준으로 반올림
+    private static double round(double value, int scale) {
+        return new BigDecimal(value).setScale(scale, RoundingMode.HALF_EVEN).doubleValue();
+    }
+}
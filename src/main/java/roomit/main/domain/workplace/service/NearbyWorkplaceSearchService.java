@@ -0,0 +1,98 @@
+package roomit.main.domain.workplace.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import roomit.main.domain.workplace.dto.response.DistanceWorkplaceResponse;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+import roomit.main.global.geocoding.GeoCoordinate;
+import roomit.main.global.geocoding.Geocoder;
+
+/**
+ * 주소 기반 주변 사업장 검색
+ * 좌표 변환은 트랜잭션/DB 커넥션 없이 비동기로 처리하고,
+ * 좌표가 정해진 뒤에만 짧은 읽기 전용 쿼리(WorkplaceSearchImpl)를 실행
+ */
+@Slf4j
+@Service
+public class NearbyWorkplaceSearchService {
+
+    private final Geocoder geocoder;
+    private final WorkplaceRepository workplaceRepository;
+    private final long geocodeTimeoutMillis;
+
+    // DB 조회 단계 전용 스레드 풀 (WebClient 이벤트 루프에서 JDBC 를 호출하지 않도록 분리)
+    private final ThreadPoolExecutor searchExecutor;
+
+    public NearbyWorkplaceSearchService(Geocoder geocoder,
+                                        WorkplaceRepository workplaceRepository,
+                                        @Value("${geocoder.timeout-ms:2000}") long geocodeTimeoutMillis,
+                                        @Value("${workplace.search.pool-size:8}") int poolSize) {
+        this.geocoder = geocoder;
+        this.workplaceRepository = workplaceRepository;
+        this.geocodeTimeoutMillis = geocodeTimeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 호출 스레드에서 직접 실행하여 동시 DB 조회 수를 제한
+        this.searchExecutor = new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(poolSize * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "workplace-search-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.searchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdown();
+    }
+
+    public CompletableFuture<List<DistanceWorkplaceResponse>> findNearbyWorkplacesAsync(String address, double maxDistance) {
+        return resolveCoordinate(address)
+                .thenApplyAsync(coordinate -> workplaceRepository.findNearbyWorkplaces(
+                        coordinate.longitude(), coordinate.latitude(), maxDistance), searchExecutor);
+    }
+
+    /**
+     * 제한 시간 안에 좌표를 얻지 못하면 캐시에 있는 상위 주소의 좌표로 대체
+     * 늦게 도착한 결과는 캐시에 저장되어 다음 검색에 사용됨
+     * 캐시 저장과 대체 좌표 조회(Redis)는 이벤트 루프/타임아웃 스레드가 아닌 searchExecutor 에서 실행
+     */
+    private CompletableFuture<GeoCoordinate> resolveCoordinate(String address) {
+        return geocoder.geocodeAsync(address, searchExecutor)
+                .orTimeout(geocodeTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyAsync(e -> {
+                    Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+
+                    if (cause instanceof CommonException commonException
+                            && commonException.getErrorCode() == ErrorCode.WORKPLACE_INVALID_ADDRESS) {
+                        throw commonException;
+                    }
+
+                    log.warn("geocoding for '{}' failed or timed out ({}), trying approximate coordinate",
+                            address, cause.getClass().getSimpleName());
+                    return geocoder.findApproximate(address)
+                            .orElseThrow(ErrorCode.WORKPLACE_GEOCODING_FAILED::commonException);
+                }, searchExecutor)
+                .thenApply(coordinate -> {
+                    if (!coordinate.isValid()) {
+                        throw ErrorCode.WORKPLACE_INVALID_ADDRESS.commonException();
+                    }
+                    return coordinate;
+                });
+    }
+}
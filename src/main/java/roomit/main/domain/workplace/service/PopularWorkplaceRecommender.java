@@ -0,0 +1,31 @@
+package roomit.main.domain.workplace.service;
+
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+
+/**
+ * 회원과 무관하게 리뷰 평균이 높은 순으로 추천 (추천 서버 장애 시 대체용)
+ * 평균이 같으면 리뷰가 많은 순, 그 다음 workplace_id 순
+ */
+@RequiredArgsConstructor
+public class PopularWorkplaceRecommender implements WorkplaceRecommender {
+
+    private static final Comparator<WorkplaceReviewStat> MOST_POPULAR = Comparator
+            .comparingDouble(WorkplaceReviewStat::reviewScore).reversed()
+            .thenComparing(Comparator.comparingLong(WorkplaceReviewStat::reviewCount).reversed())
+            .thenComparingLong(WorkplaceReviewStat::workplaceId);
+
+    private final WorkplaceSpatialIndex workplaceSpatialIndex;
+    private final WorkplaceRepository workplaceRepository;
+
+    @Override
+    public List<Recommendation> recommend(Long memberId, int age, int n) {
+        return WorkplaceReviewStat.load(workplaceSpatialIndex, workplaceRepository).stream()
+                .sorted(MOST_POPULAR)
+                .limit(n)
+                .map(stat -> new Recommendation(stat.workplaceId(), 0.0, stat.reviewScore()))
+                .toList();
+    }
+}
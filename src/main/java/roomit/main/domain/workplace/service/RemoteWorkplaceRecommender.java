@@ -0,0 +1,195 @@
+package roomit.main.domain.workplace.service;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import roomit.main.domain.workplace.dto.request.RecommendationResponseWrapper;
+import roomit.main.global.cache.ExpiringLruCache;
+import roomit.main.global.resilience.CircuitBreaker;
+import roomit.main.global.resilience.CircuitBreakerStats;
+
+/**
+ * Flask 추천 서버(python-server/app.py /recommend) 호출
+ * 커넥션 풀을 공유하는 WebClient 를 사용하고, 타임아웃/동시 호출 제한/서킷 브레이커로 보호
+ * 추천 서버가 느리거나 장애일 때는 회원의 마지막 추천 결과, 없으면 인기 사업장 목록으로 응답
+ */
+@Slf4j
+public class RemoteWorkplaceRecommender implements WorkplaceRecommender {
+
+    public record Settings(
+            String url,
+            Duration connectTimeout,
+            Duration readTimeout,
+            int maxConnections,
+            int maxConcurrentCalls,
+            int failureThreshold,
+            Duration openDuration,
+            int cacheSize,
+            Duration cacheTtl
+    ) {}
+
+    public record Stats(
+            long callCount,
+            long fallbackCount,
+            long bulkheadRejectedCount,
+            double averageLatencyMillis,
+            double maxLatencyMillis,
+            CircuitBreakerStats circuitBreaker
+    ) {}
+
+    private final Settings settings;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    // 회원별 마지막 정상 응답 (장애 시 대체 응답)
+    private final ExpiringLruCache<String, List<Recommendation>> lastResults;
+    private final WorkplaceRecommender fallback;
+
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final LongAdder fallbackCount = new LongAdder();
+    private final LongAdder bulkheadRejectedCount = new LongAdder();
+
+    public RemoteWorkplaceRecommender(Settings settings, WebClient.Builder webClientBuilder,
+                                      WorkplaceRecommender fallback) {
+        this.settings = settings;
+        this.connectionProvider = ConnectionProvider.builder("recommendation")
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireTimeout(settings.connectTimeout())
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.connectTimeout().toMillis())
+                .responseTimeout(settings.readTimeout());
+        this.webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration());
+        this.lastResults = new ExpiringLruCache<>(settings.cacheSize(), settings.cacheTtl());
+        this.fallback = fallback;
+    }
+
+    @Override
+    public List<Recommendation> recommend(Long memberId, int age, int n) {
+        String cacheKey = memberId + ":" + WorkplaceRecommender.toAgeGroup(age) + ":" + n;
+
+        List<Recommendation> result = callWithProtection(memberId, age, n);
+        if (result != null) {
+            lastResults.put(cacheKey, result);
+            return result;
+        }
+
+        fallbackCount.increment();
+        List<Recommendation> cached = lastResults.get(cacheKey);
+        return (cached != null) ? cached : fallback.recommend(memberId, age, n);
+    }
+
+    // 호출하지 못했거나 실패하면 null
+    private List<Recommendation> callWithProtection(Long memberId, int age, int n) {
+        // 동시 호출 제한, 대기하지 않고 바로 대체 응답
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejectedCount.increment();
+            return null;
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return null;
+            }
+
+            long start = System.nanoTime();
+            try {
+                List<Recommendation> result = call(memberId, age, n);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (WebClientResponseException e) {
+                // 4xx 는 요청 문제(연령대 모델 없음 등)이므로 서버 장애로 세지 않음
+                if (e.getStatusCode().is4xxClientError()) {
+                    circuitBreaker.onSuccess();
+                } else {
+                    circuitBreaker.onFailure();
+                }
+                log.warn("추천 서버 응답 오류 - status={}", e.getStatusCode());
+                return null;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                log.warn("추천 서버 호출 실패 - {}", e.toString());
+                return null;
+            } finally {
+                recordLatency(System.nanoTime() - start);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private List<Recommendation> call(Long memberId, int age, int n) {
+        // Flask로 보낼 요청 데이터 생성
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("user_id", memberId);
+        requestBody.put("age", age);
+        requestBody.put("n", n);
+
+        RecommendationResponseWrapper response = webClient.post()
+                .uri(settings.url())
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(RecommendationResponseWrapper.class)
+                .timeout(settings.readTimeout())
+                .block();
+
+        if (response == null || response.getRecommendations() == null) {
+            throw new IllegalStateException("추천 서버 응답이 비어 있습니다.");
+        }
+
+        return response.getRecommendations().stream()
+                .map(result -> new Recommendation(
+                        result.workplaceId(),
+                        result.predictedRating() == null ? 0.0 : result.predictedRating(),
+                        result.finalScore() == null ? 0.0 : result.finalScore()))
+                .toList();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        callCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public Stats stats() {
+        long calls = callCount.sum();
+        double averageLatencyMillis = (calls == 0) ? 0.0 : totalLatencyNanos.sum() / 1_000_000.0 / calls;
+        return new Stats(calls, fallbackCount.sum(), bulkheadRejectedCount.sum(),
+                averageLatencyMillis, maxLatencyNanos.get() / 1_000_000.0, circuitBreaker.stats());
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.remote.stats-log-interval:600000}")
+    public void logStats() {
+        Stats stats = stats();
+        log.info("recommendation server - calls: {}, avgLatency: {} ms, maxLatency: {} ms, fallback: {}, bulkheadRejected: {}, "
+                        + "circuit: {}, opened: {}, rejected: {}, openTime: {} ms",
+                stats.callCount(), String.format("%.1f", stats.averageLatencyMillis()),
+                String.format("%.1f", stats.maxLatencyMillis()), stats.fallbackCount(), stats.bulkheadRejectedCount(),
+                stats.circuitBreaker().state(), stats.circuitBreaker().openCount(),
+                stats.circuitBreaker().rejectedCount(), stats.circuitBreaker().openTime().toMillis());
+    }
+
+    // @Bean 종료 시 자동 호출 (커넥션 풀 정리)
+    public void close() {
+        connectionProvider.dispose();
+    }
+}
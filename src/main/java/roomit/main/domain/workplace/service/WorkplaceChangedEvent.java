@@ -0,0 +1,18 @@
+package roomit.main.domain.workplace.service;
+
+/**
+ * 사업장 정보(위치, 이름, 리뷰 통계 등)가 바뀌었을 때 발행
+ * 커밋 이후 메모리 인덱스/캐시 갱신에 사용
+ */
+public record WorkplaceChangedEvent(
+        Long workplaceId,
+        boolean deleted
+) {
+    public static WorkplaceChangedEvent updated(Long workplaceId) {
+        return new WorkplaceChangedEvent(workplaceId, false);
+    }
+
+    public static WorkplaceChangedEvent deleted(Long workplaceId) {
+        return new WorkplaceChangedEvent(workplaceId, true);
+    }
+}
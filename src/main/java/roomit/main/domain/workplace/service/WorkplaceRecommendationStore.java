@@ -0,0 +1,170 @@
+package roomit.main.domain.workplace.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import roomit.main.domain.member.repository.MemberRepository;
+import roomit.main.domain.review.service.ReviewRegisteredEvent;
+import roomit.main.global.util.BumblebeeStringUtil;
+
+/**
+ * 연령대/회원별 추천 상위 N 개를 미리 계산해 Redis sorted set 에 저장
+ * 추천은 모델 재학습이나 리뷰 등록 때만 바뀌므로 요청마다 계산하지 않음
+ * 저장된 목록이 없는 회원(신규/미학습)은 연령대 인기 목록(회원 정보 없이 계산한 추천)을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkplaceRecommendationStore {
+
+    private static final String MEMBER_KEY_FORMAT = "recommend:{}:{}";
+    private static final String POPULAR_KEY_FORMAT = "recommend:popular:{}";
+    private static final List<Integer> AGE_GROUPS = List.of(10, 20, 30, 40);
+    // 모델에 없는 회원 id (연령대 인기 목록 계산용)
+    private static final long COLD_MEMBER_ID = 0L;
+    private static final int MEMBER_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final WorkplaceRecommender workplaceRecommender;
+    private final MemberRepository memberRepository;
+
+    @Value("${recommendation.materialize.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommendation.materialize.size:20}")
+    private int size;
+
+    @Value("${recommendation.materialize.ttl-hours:26}")
+    private long ttlHours;
+
+    /**
+     * 미리 계산된 추천 workplace id (추천 순서)
+     * 저장된 개수보다 많이 요청하거나 목록이 없으면 empty
+     */
+    public Optional<List<Long>> find(Long memberId, int age, int n) {
+        if (!enabled || n > size) {
+            return Optional.empty();
+        }
+
+        int ageGroup = WorkplaceRecommender.toAgeGroup(age);
+        try {
+            List<Long> ids = read(memberKey(ageGroup, memberId), n);
+            if (ids.isEmpty()) {
+                ids = read(popularKey(ageGroup), n);
+            }
+            return ids.isEmpty() ? Optional.empty() : Optional.of(ids);
+        } catch (RuntimeException e) {
+            log.warn("추천 목록 조회 실패, 직접 계산합니다 - memberId={}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Scheduled(cron = "${recommendation.materialize.cron:0 30 4 * * *}")
+    public void materializeAll() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        for (Integer ageGroup : AGE_GROUPS) {
+            materializePopular(ageGroup);
+        }
+
+        int count = 0;
+        long lastId = 0L;
+        LocalDate today = LocalDate.now();
+        List<Object[]> members;
+        do {
+            members = memberRepository.findBirthDaysAfter(lastId, PageRequest.of(0, MEMBER_BATCH_SIZE));
+            for (Object[] member : members) {
+                lastId = (Long) member[0];
+                if (materialize(lastId, Period.between((LocalDate) member[1], today).getYears())) {
+                    count++;
+                }
+            }
+        } while (members.size() == MEMBER_BATCH_SIZE);
+
+        log.info("추천 목록 사전 계산 완료 - {} members in {} ms", count, System.currentTimeMillis() - start);
+    }
+
+    // 리뷰를 등록한 회원의 추천 목록만 다시 계산
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewRegistered(ReviewRegisteredEvent event) {
+        if (!enabled) {
+            return;
+        }
+        memberRepository.findById(event.memberId())
+                .filter(member -> member.getBirthDay() != null)
+                .ifPresent(member -> materialize(member.getMemberId(),
+                        Period.between(member.getBirthDay(), LocalDate.now()).getYears()));
+    }
+
+    public boolean materialize(Long memberId, int age) {
+        return write(memberKey(WorkplaceRecommender.toAgeGroup(age), memberId), memberId, age);
+    }
+
+    private void materializePopular(int ageGroup) {
+        write(popularKey(ageGroup), COLD_MEMBER_ID, ageGroup);
+    }
+
+    private boolean write(String key, Long memberId, int age) {
+        try {
+            List<WorkplaceRecommender.Recommendation> recommendations =
+                    workplaceRecommender.recommend(memberId, age, size);
+
+            // 점수 대신 순위를 score 로 저장 (동점일 때 추천 순서를 그대로 유지)
+            Set<TypedTuple<Object>> tuples = new LinkedHashSet<>();
+            for (int rank = 0; rank < recommendations.size(); rank++) {
+                tuples.add(new DefaultTypedTuple<>(
+                        String.valueOf(recommendations.get(rank).workplaceId()), (double) rank));
+            }
+            if (tuples.isEmpty()) {
+                redisTemplate.delete(key);
+                return false;
+            }
+
+            // 임시 key 에 쓰고 rename 해서 읽는 쪽에 반쯤 채워진 목록이 보이지 않도록 함
+            String temporaryKey = key + ":tmp";
+            redisTemplate.delete(temporaryKey);
+            redisTemplate.opsForZSet().add(temporaryKey, tuples);
+            redisTemplate.expire(temporaryKey, Duration.ofHours(ttlHours));
+            redisTemplate.rename(temporaryKey, key);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("추천 목록 사전 계산 실패 - key={}", key, e);
+            return false;
+        }
+    }
+
+    private List<Long> read(String key, int n) {
+        Set<Object> members = redisTemplate.opsForZSet().range(key, 0, n - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+                .map(member -> Long.valueOf(member.toString()))
+                .toList();
+    }
+
+    private static String memberKey(int ageGroup, Long memberId) {
+        return BumblebeeStringUtil.format(MEMBER_KEY_FORMAT, ageGroup, memberId);
+    }
+
+    private static String popularKey(int ageGroup) {
+        return BumblebeeStringUtil.format(POPULAR_KEY_FORMAT, ageGroup);
+    }
+}
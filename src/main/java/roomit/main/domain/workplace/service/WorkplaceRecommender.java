@@ -0,0 +1,31 @@
+package roomit.main.domain.workplace.service;
+
+import java.util.List;
+
+/**
+ * 회원 맞춤 사업장 추천
+ * recommendation.engine 설정으로 JVM 내부 계산(local) 또는 Flask 서버 호출(remote) 선택
+ */
+public interface WorkplaceRecommender {
+
+    /**
+     * 최종 점수가 높은 순으로 최대 n 개 추천
+     */
+    List<Recommendation> recommend(Long memberId, int age, int n);
+
+    record Recommendation(Long workplaceId, double predictedRating, double finalScore) {}
+
+    // python-server/app.py get_age_group_from_age 와 같은 구간
+    static int toAgeGroup(int age) {
+        if (age < 20) {
+            return 10;
+        }
+        if (age < 30) {
+            return 20;
+        }
+        if (age < 40) {
+            return 30;
+        }
+        return 40;
+    }
+}
@@ -0,0 +1,38 @@
+package roomit.main.domain.workplace.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+
+/**
+ * 추천 점수 계산용 사업장 리뷰 통계
+ */
+record WorkplaceReviewStat(long workplaceId, long starSum, long reviewCount) {
+
+    // 색인이 적재되어 있으면 DB 를 조회하지 않음
+    static List<WorkplaceReviewStat> load(WorkplaceSpatialIndex workplaceSpatialIndex,
+                                          WorkplaceRepository workplaceRepository) {
+        if (workplaceSpatialIndex.isReady()) {
+            return workplaceSpatialIndex.entries().stream()
+                    .map(entry -> new WorkplaceReviewStat(entry.workplaceId(), entry.starSum(), entry.reviewCount()))
+                    .toList();
+        }
+        return workplaceRepository.findAllReviewStats().stream()
+                .map(row -> new WorkplaceReviewStat(
+                        ((Number) row[0]).longValue(),
+                        row[1] == null ? 0L : ((Number) row[1]).longValue(),
+                        row[2] == null ? 0L : ((Number) row[2]).longValue()))
+                .toList();
+    }
+
+    // MySQL star_sum / NULLIF(review_count, 0) 와 같은 소수 넷째 자리 값
+    double reviewScore() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return BigDecimal.valueOf(starSum)
+                .divide(BigDecimal.valueOf(reviewCount), 4, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
@@ -1,26 +1,25 @@
 package roomit.main.domain.workplace.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import roomit.main.domain.business.entity.Business;
 import roomit.main.domain.business.repository.BusinessRepository;
 import roomit.main.domain.studyroom.dto.request.CreateStudyRoomRequest;
 import roomit.main.domain.studyroom.entity.StudyRoom;
 import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.domain.workplace.dto.request.WorkplaceDistanceCursor;
 import roomit.main.domain.workplace.dto.request.WorkplaceGetRequest;
 import roomit.main.domain.workplace.dto.request.WorkplaceRequest;
 import roomit.main.domain.workplace.dto.response.DistanceWorkplaceResponse;
@@ -28,6 +27,7 @@ import roomit.main.domain.workplace.dto.response.WorkplaceAllResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceBusinessResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceCreateResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceDetailResponse;
+import roomit.main.domain.workplace.dto.response.WorkplaceNearestResponse;
 import roomit.main.domain.workplace.dto.response.WorkplaceResponse;
 import roomit.main.domain.workplace.entity.Workplace;
 import roomit.main.domain.workplace.entity.value.WorkplaceAddress;
@@ -36,6 +36,9 @@ import roomit.main.domain.workplace.entity.value.WorkplacePhoneNumber;
 import roomit.main.domain.workplace.repository.WorkplaceRepository;
 import roomit.main.global.error.ErrorCode;
 import roomit.main.global.exception.CommonException;
+import roomit.main.global.geocoding.GeoCoordinate;
+import roomit.main.global.geocoding.Geocoder;
+import roomit.main.global.inner.ImageKeysConverter;
 import roomit.main.global.service.FileLocationService;
 import roomit.main.global.service.ImageService;
 import roomit.main.global.util.PointUtil;
@@ -44,15 +47,115 @@ import roomit.main.global.util.PointUtil;
 @RequiredArgsConstructor
 public class WorkplaceService {
 
+    private static final ImageKeysConverter IMAGE_KEYS_CONVERTER = new ImageKeysConverter();
+    private static final int MAP_RESULT_LIMIT = 10;
+    private static final int MAX_NEAREST_SIZE = 50;
+
     private final WorkplaceRepository workplaceRepository;
     private final BusinessRepository businessRepository;
     private final StudyRoomRepository studyRoomRepository;
-    private final WebClient webClient;
+    private final Geocoder geocoder;
     private final ImageService imageService;
     private final FileLocationService fileLocationService;
     private final PointUtil pointUtil;
+    private final WorkplaceSpatialIndex workplaceSpatialIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<WorkplaceAllResponse> readAllWorkplaces(WorkplaceGetRequest request) {
+        return toWorkplaceAllResponses(findWithinArea(request));
+    }
+
+    /**
+     * 기준점에서 가까운 사업장을 size 개씩 바깥쪽으로 이어서 조회 (KNN)
+     * 다음 페이지는 응답의 nextCursor 로 요청
+     * DB 조회는 각 쿼리의 트랜잭션 안에서 끝나고, S3 썸네일 조회는 커넥션을 잡지 않은 채 수행
+     */
+    public WorkplaceNearestResponse readNearestWorkplaces(double latitude, double longitude, int size, String cursor) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw ErrorCode.WORKPLACE_INVALID_REQUEST.commonException();
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_NEAREST_SIZE);
+        WorkplaceDistanceCursor after = WorkplaceDistanceCursor.decode(cursor);
+
+        List<WorkplaceSpatialIndex.Match> matches = workplaceSpatialIndex.isReady()
+                ? workplaceSpatialIndex.findNearest(longitude, latitude, after.distance(), after.workplaceId(), pageSize)
+                : findNearestFromDatabase(latitude, longitude, after, pageSize);
+
+        String nextCursor = null;
+        if (matches.size() == pageSize) {
+            WorkplaceSpatialIndex.Match last = matches.get(matches.size() - 1);
+            nextCursor = new WorkplaceDistanceCursor(last.distance(), last.entry().workplaceId()).encode();
+        }
+
+        return new WorkplaceNearestResponse(toWorkplaceAllResponses(matches), nextCursor);
+    }
+
+    private List<WorkplaceSpatialIndex.Match> findNearestFromDatabase(double latitude, double longitude,
+                                                                     WorkplaceDistanceCursor after, int size) {
+        List<DistanceWorkplaceResponse> nearest = workplaceRepository.findNearestWorkplaces(
+                longitude, latitude, after.distance(), after.workplaceId(), size);
+
+        Map<Long, Workplace> workplaces = workplaceRepository.findAllById(nearest.stream()
+                        .map(DistanceWorkplaceResponse::workplaceId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Workplace::getWorkplaceId, Function.identity()));
+
+        // 조회 사이에 삭제된 사업장은 제외
+        return nearest.stream()
+                .filter(result -> workplaces.containsKey(result.workplaceId()))
+                .map(result -> new WorkplaceSpatialIndex.Match(
+                        WorkplaceSpatialIndex.Entry.from(workplaces.get(result.workplaceId())), result.distance()))
+                .toList();
+    }
+
+    private List<WorkplaceAllResponse> toWorkplaceAllResponses(List<WorkplaceSpatialIndex.Match> matches) {
+        // image_keys 가 없는 사업장만 모아서 S3 를 병렬 조회
+        Map<String, String> thumbnails = fileLocationService.resolveThumbnails(matches.stream()
+                .map(WorkplaceSpatialIndex.Match::entry)
+                .filter(entry -> entry.imageKeys() == null)
+                .map(WorkplaceSpatialIndex.Entry::imageUrl)
+                .toList());
+
+        return matches.stream()
+                .map(match -> {
+                    WorkplaceSpatialIndex.Entry entry = match.entry();
+                    String thumbnail = (entry.imageKeys() == null)
+                            ? thumbnails.get(entry.imageUrl())
+                            : fileLocationService.getThumbnail(entry.imageUrl(), entry.imageKeys());
+
+                    return new WorkplaceAllResponse(
+                            entry.workplaceId(),
+                            entry.workplaceName(),
+                            entry.workplaceAddress(),
+                            thumbnail,
+                            (entry.reviewCount() == 0) ? 0.0 : (double) entry.starSum() / entry.reviewCount(),
+                            entry.reviewCount(),
+                            entry.longitude(),
+                            entry.latitude(),
+                            match.distance()
+                    );
+                }).toList();
+    }
+
+    // 메모리 인덱스로 조회, 기동 직후 적재 전에만 DB 조회
+    private List<WorkplaceSpatialIndex.Match> findWithinArea(WorkplaceGetRequest request) {
+        if (workplaceSpatialIndex.isReady()) {
+            return findWithinAreaFromIndex(request);
+        }
+        return findWithinAreaFromDatabase(request);
+    }
+
+    public List<WorkplaceSpatialIndex.Match> findWithinAreaFromIndex(WorkplaceGetRequest request) {
+        return workplaceSpatialIndex.findWithinArea(
+                request.bottomLeft().getLongitude(), request.bottomLeft().getLatitude(),
+                request.topRight().getLongitude(), request.topRight().getLatitude(),
+                request.longitude(), request.latitude(),
+                MAP_RESULT_LIMIT
+        );
+    }
+
+    public List<WorkplaceSpatialIndex.Match> findWithinAreaFromDatabase(WorkplaceGetRequest request) {
         String referencePoint = String.format("POINT(%f %f)", request.longitude(), request.latitude());
         String area = String.format(
                 "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
@@ -66,22 +169,21 @@ public class WorkplaceService {
         List<Object[]> results = workplaceRepository.findAllWithinArea(referencePoint, area);
 
         return results.stream()
-                .map(result -> {
-                    double starSum = ((Number) result[4]).doubleValue();
-                    long reviewCount = ((Number) result[5]).longValue();
-
-                    return new WorkplaceAllResponse(
-                            ((Number) result[0]).longValue(),
-                            (String) result[1],
-                            (String) result[2],
-                            fileLocationService.getImagesFromFolder((String)result[3]).get(0),
-                            (reviewCount == 0) ? 0.0 : starSum / reviewCount,
-                            reviewCount,
-                            ((Number) result[6]).doubleValue(), // longitude
-                            ((Number) result[7]).doubleValue(), // latitude
-                            ((Number) result[8]).doubleValue()
-                    );
-                }).toList();
+                .map(result -> new WorkplaceSpatialIndex.Match(
+                        new WorkplaceSpatialIndex.Entry(
+                                ((Number) result[0]).longValue(),
+                                (String) result[1],
+                                (String) result[2],
+                                (String) result[3],
+                                IMAGE_KEYS_CONVERTER.convertToEntityAttribute((String) result[9]),
+                                ((Number) result[4]).longValue(),
+                                ((Number) result[5]).longValue(),
+                                ((Number) result[6]).doubleValue(), // longitude
+                                ((Number) result[7]).doubleValue()  // latitude
+                        ),
+                        ((Number) result[8]).doubleValue()
+                ))
+                .toList();
     }
 
 
@@ -96,8 +198,8 @@ public class WorkplaceService {
     public WorkplaceCreateResponse createWorkplace(WorkplaceRequest workplaceDto, Long id) {
         Business business = businessRepository.findById(id).orElseThrow(ErrorCode.BUSINESS_NOT_FOUND::commonException);
 
-        Map<String, Double> coordinates = getStringBigDecimalMap(workplaceDto);
-        Point location = pointUtil.createPoint(coordinates.get("longitude"), coordinates.get("latitude"));
+        GeoCoordinate coordinate = geocodeWorkplaceAddress(workplaceDto);
+        Point location = pointUtil.createPoint(coordinate.longitude(), coordinate.latitude());
 
         try {
             Workplace workplace = workplaceDto.toEntity(location, business);
@@ -108,6 +210,8 @@ public class WorkplaceService {
             List<Long> studyroomID = new ArrayList<>();
             studyroomID = saveStudyrooms(workplaceDto, savedWorkplace, studyroomID);
 
+            eventPublisher.publishEvent(WorkplaceChangedEvent.updated(savedWorkplace.getWorkplaceId()));
+
             return new WorkplaceCreateResponse(savedWorkplace.getWorkplaceId(), studyroomID);
         }
         catch (IllegalArgumentException e) {
@@ -153,8 +257,8 @@ public class WorkplaceService {
             throw ErrorCode.BUSINESS_NOT_AUTHORIZED.commonException();
         }
 
-        Map<String, Double> coordinates = getStringBigDecimalMap(workplaceDto);
-        Point newLocation = pointUtil.createPoint(coordinates.get("longitude"), coordinates.get("latitude"));
+        GeoCoordinate coordinate = geocodeWorkplaceAddress(workplaceDto);
+        Point newLocation = pointUtil.createPoint(coordinate.longitude(), coordinate.latitude());
 
         try {
             workplace.changeWorkplaceName(new WorkplaceName(workplaceDto.workplaceName()));
@@ -166,6 +270,7 @@ public class WorkplaceService {
             workplace.changeLocation(newLocation);
 
             workplaceRepository.save(workplace);
+            eventPublisher.publishEvent(WorkplaceChangedEvent.updated(workplaceId));
         } catch (Exception e) {
             throw ErrorCode.WORKPLACE_NOT_MODIFIED.commonException();
         }
@@ -182,6 +287,7 @@ public class WorkplaceService {
 
         try {
             workplaceRepository.delete(workplace);
+            eventPublisher.publishEvent(WorkplaceChangedEvent.deleted(workplaceId));
         } catch (Exception e) {
             throw ErrorCode.WORKPLACE_NOT_DELETE.commonException();
         }
@@ -200,67 +306,44 @@ public class WorkplaceService {
     }
 
     private WorkplaceBusinessResponse toResponseDto(List<Workplace> workplaces, Long businessId, String businessName) {
+        Map<String, String> thumbnails = fileLocationService.resolveThumbnailsByImageUrl(
+                workplaces.stream().map(Workplace::getImageUrl).toList());
+
         List<WorkplaceResponse> workplaceDtoList = new ArrayList<>();
         for (Workplace workplace : workplaces) {
-            workplaceDtoList.add(new WorkplaceResponse(workplace, fileLocationService));
+            workplaceDtoList.add(new WorkplaceResponse(workplace, thumbnails.get(workplace.getImageUrl().getValue())));
         }
 
         return new WorkplaceBusinessResponse(businessId, businessName, workplaceDtoList);
     }
 
-    protected Map<String, Double> getStringBigDecimalMap(WorkplaceRequest workplaceDto) {
+    protected GeoCoordinate geocodeWorkplaceAddress(WorkplaceRequest workplaceDto) {
         try {
             String[] parts = workplaceDto.workplaceAddress().split(",", 2);
             String roadAddress = parts[0].trim();
-            String detailAddress = (parts.length > 1) ? parts[1].trim() : "";
-            return geoCording(roadAddress);
-        } catch (Exception e) {
+            return geocoder.geocode(roadAddress);
+        } catch (CommonException e) {
+            if (e.getErrorCode() == ErrorCode.WORKPLACE_GEOCODING_FAILED) {
+                throw e;
+            }
             throw ErrorCode.WORKPLACE_INVALID_ADDRESS.commonException();
-        }
-    }
-
-    private Map<String, Double> geoCording(String address) {
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/v2/local/search/address.json")
-                            .queryParam("query", address)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(); // 동기식 호출
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode document = objectMapper.readTree(response).path("documents").get(0);
-
-            Double latitude = Double.valueOf(document.path("y").asText());
-            Double longitude = Double.valueOf(document.path("x").asText());
-
-            return Map.of(
-                    "latitude", latitude,
-                    "longitude", longitude
-            );
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error parsing JSON response", e);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to extract coordinates from response", e);
+            throw ErrorCode.WORKPLACE_INVALID_ADDRESS.commonException();
         }
     }
 
-    @Transactional(readOnly = true)
+    // 좌표 변환 동안 트랜잭션을 열지 않음 (조회 쿼리는 WorkplaceSearchImpl 에서 읽기 전용 트랜잭션으로 실행)
     public List<DistanceWorkplaceResponse> findNearbyWorkplaces(String address, double maxDistance) {
         // 1. 주소를 좌표로 변환
-        Map<String, Double> coordinates = geoCording(address);
-        Double latitude = coordinates.get("latitude");
-        Double longitude = coordinates.get("longitude");
+        GeoCoordinate coordinate = geocoder.geocode(address);
 
         // 위도, 경도가 유효한지 확인 (Optional)
-        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+        if (!coordinate.isValid()) {
             throw new IllegalArgumentException("위도나 경도가 범위를 벗어났습니다.");
         }
 
         // 2. 좌표와 거리 기반으로 Workplace 조회
-        List<DistanceWorkplaceResponse> results = workplaceRepository.findNearbyWorkplaces(longitude, latitude, maxDistance);
+        List<DistanceWorkplaceResponse> results = workplaceRepository.findNearbyWorkplaces(coordinate.longitude(), coordinate.latitude(), maxDistance);
 
         return results.stream()
             .map(result -> new DistanceWorkplaceResponse(
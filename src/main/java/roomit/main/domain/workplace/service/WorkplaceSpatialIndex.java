@@ -0,0 +1,254 @@
+package roomit.main.domain.workplace.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.quadtree.Quadtree;
+import org.springframework.stereotype.Component;
+import roomit.main.domain.workplace.entity.Workplace;
+
+/**
+ * 지도 조회용 사업장 위치 인덱스
+ * 사업장 위치는 거의 바뀌지 않으므로 메모리에 두고 지도 이동마다 DB 를 조회하지 않도록 함
+ * 거리 계산은 findAllWithinArea 쿼리와 같이 좌표 평면 거리 * 100 을 사용
+ */
+@Component
+public class WorkplaceSpatialIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Quadtree quadtree = new Quadtree();
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    // 전체 적재 중에 바뀐 사업장 (적재 결과로 덮어쓰지 않음)
+    private final Set<Long> changedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 사업장 복사본 (추천 점수 계산 등 전체 순회용)
+    public List<Entry> entries() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(entries.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeLoad(Collection<Entry> snapshot) {
+        lock.writeLock().lock();
+        try {
+            Quadtree newQuadtree = new Quadtree();
+            Map<Long, Entry> newEntries = new HashMap<>();
+
+            for (Entry entry : snapshot) {
+                if (!changedWhileLoading.contains(entry.workplaceId())) {
+                    newEntries.put(entry.workplaceId(), entry);
+                }
+            }
+            // 적재 중 반영된 변경은 그대로 유지
+            for (Long workplaceId : changedWhileLoading) {
+                Entry changed = entries.get(workplaceId);
+                if (changed != null) {
+                    newEntries.put(workplaceId, changed);
+                }
+            }
+            newEntries.values().forEach(entry -> newQuadtree.insert(entry.envelope(), entry));
+
+            quadtree = newQuadtree;
+            entries = newEntries;
+            loading = false;
+            changedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(entry.workplaceId(), entry);
+            if (previous != null) {
+                quadtree.remove(previous.envelope(), previous);
+            }
+            quadtree.insert(entry.envelope(), entry);
+            if (loading) {
+                changedWhileLoading.add(entry.workplaceId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long workplaceId) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(workplaceId);
+            if (previous != null) {
+                quadtree.remove(previous.envelope(), previous);
+            }
+            if (loading) {
+                changedWhileLoading.add(workplaceId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 안의 사업장을 기준점에서 가까운 순으로 조회
+     * findAllWithinArea 와 같이 영역 경계 위의 점은 제외(ST_Within)
+     */
+    public List<Match> findWithinArea(double minLongitude, double minLatitude,
+                                      double maxLongitude, double maxLatitude,
+                                      double longitude, double latitude, int limit) {
+        Envelope area = new Envelope(minLongitude, maxLongitude, minLatitude, maxLatitude);
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Object candidate : quadtree.query(area)) {
+                Entry entry = (Entry) candidate;
+                if (entry.longitude() > minLongitude && entry.longitude() < maxLongitude
+                        && entry.latitude() > minLatitude && entry.latitude() < maxLatitude) {
+                    matches.add(new Match(entry, entry.distanceTo(longitude, latitude)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingDouble(Match::distance)
+                        .thenComparing(match -> match.entry().workplaceId()))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 기준점에서 가까운 순으로 limit 개 조회 (KNN)
+     * (lastDistance, lastWorkplaceId) 보다 뒤에 있는 사업장만 대상으로 하여 바깥쪽으로 이어서 조회
+     */
+    public List<Match> findNearest(double longitude, double latitude,
+                                   double lastDistance, long lastWorkplaceId, int limit) {
+        Comparator<Match> order = Comparator.comparingDouble(Match::distance)
+                .thenComparing(match -> match.entry().workplaceId());
+        // 가장 먼 후보가 head 에 오도록 역순 힙 유지
+        PriorityQueue<Match> nearest = new PriorityQueue<>(limit + 1, order.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (Entry entry : entries.values()) {
+                double distance = entry.distanceTo(longitude, latitude);
+                if (distance < lastDistance || (distance == lastDistance && entry.workplaceId() <= lastWorkplaceId)) {
+                    continue;
+                }
+                Match match = new Match(entry, distance);
+                if (nearest.size() < limit) {
+                    nearest.add(match);
+                } else if (order.compare(match, nearest.peek()) < 0) {
+                    nearest.poll();
+                    nearest.add(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return nearest.stream().sorted(order).toList();
+    }
+
+    // 지도 카드에 필요한 사업장 요약 정보
+    public record Entry(
+            Long workplaceId,
+            String workplaceName,
+            String workplaceAddress,
+            String imageUrl,
+            List<String> imageKeys,
+            long starSum,
+            long reviewCount,
+            double longitude,
+            double latitude
+    ) {
+        public static Entry from(Workplace workplace) {
+            return new Entry(
+                    workplace.getWorkplaceId(),
+                    workplace.getWorkplaceName().getValue(),
+                    workplace.getWorkplaceAddress().getValue(),
+                    workplace.getImageUrl() == null ? null : workplace.getImageUrl().getValue(),
+                    workplace.getImageUrl() == null ? null : workplace.getImageUrl().getImageKeys(),
+                    workplace.getStarSum() == null ? 0L : workplace.getStarSum(),
+                    workplace.getReviewCount() == null ? 0L : workplace.getReviewCount(),
+                    workplace.getLocation().getX(),
+                    workplace.getLocation().getY()
+            );
+        }
+
+        // WorkplaceRepository.findSpatialIndexRows 의 한 행
+        @SuppressWarnings("unchecked")
+        public static Entry from(Object[] row) {
+            Point location = (Point) row[7];
+            return new Entry(
+                    (Long) row[0],
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    (List<String>) row[4],
+                    row[5] == null ? 0L : (Long) row[5],
+                    row[6] == null ? 0L : (Long) row[6],
+                    location.getX(),
+                    location.getY()
+            );
+        }
+
+        public double distanceTo(double longitude, double latitude) {
+            double dx = this.longitude - longitude;
+            double dy = this.latitude - latitude;
+            return Math.sqrt(dx * dx + dy * dy) * 100;
+        }
+
+        private Envelope envelope() {
+            return new Envelope(longitude, longitude, latitude, latitude);
+        }
+    }
+
+    public record Match(
+            Entry entry,
+            double distance
+    ) {
+    }
+}
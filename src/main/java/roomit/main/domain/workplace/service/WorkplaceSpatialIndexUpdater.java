@@ -0,0 +1,131 @@
+package roomit.main.domain.workplace.service;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+
+/**
+ * 기동 시 사업장 위치 인덱스를 적재하고, 커밋된 변경을 인덱스에 반영
+ * 다른 서버에서 일어난 변경은 Redis 채널로 전달받고, 유실된 메시지는 주기적인 전체 재적재로 맞춘다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkplaceSpatialIndexUpdater {
+
+    static final String CHANGED_CHANNEL = "workplace:changed";
+
+    // 자기 서버가 보낸 메시지를 구분하기 위한 값
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final WorkplaceSpatialIndex workplaceSpatialIndex;
+    private final WorkplaceRepository workplaceRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${workplace.spatial-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${workplace.spatial-index.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("workplace spatial index disabled, map queries use the database");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        workplaceSpatialIndex.beginLoad();
+        workplaceSpatialIndex.completeLoad(loadEntries());
+        log.info("workplace spatial index loaded - {} workplaces in {} ms",
+                workplaceSpatialIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    // 엔티티 대신 필요한 컬럼만 id 순으로 나눠 읽어 영속성 컨텍스트/메모리에 전체 사업장을 올리지 않음
+    private List<WorkplaceSpatialIndex.Entry> loadEntries() {
+        List<WorkplaceSpatialIndex.Entry> snapshot = new ArrayList<>();
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = workplaceRepository.findSpatialIndexRows(lastId, PageRequest.of(0, loadBatchSize));
+            for (Object[] row : rows) {
+                if (row[7] != null) {
+                    snapshot.add(WorkplaceSpatialIndex.Entry.from(row));
+                }
+            }
+            if (!rows.isEmpty()) {
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } while (rows.size() == loadBatchSize);
+        return snapshot;
+    }
+
+    // Redis pub/sub 은 연결이 끊긴 동안의 메시지를 보내주지 않으므로 주기적으로 전체를 다시 적재
+    @Scheduled(cron = "${workplace.spatial-index.reload-cron:0 */10 * * * *}")
+    public void reload() {
+        load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkplaceChanged(WorkplaceChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        apply(event);
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANGED_CHANNEL,
+                    instanceId + "|" + event.workplaceId() + "|" + event.deleted());
+        } catch (RuntimeException e) {
+            log.warn("workplace change broadcast failed - workplaceId={}", event.workplaceId(), e);
+        }
+    }
+
+    // 다른 서버에서 커밋된 변경 (instanceId|workplaceId|deleted)
+    void onBroadcast(String payload) {
+        String[] parts = payload.split("\\|");
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        apply(new WorkplaceChangedEvent(Long.valueOf(parts[1]), Boolean.parseBoolean(parts[2])));
+    }
+
+    private void apply(WorkplaceChangedEvent event) {
+        if (event.deleted()) {
+            workplaceSpatialIndex.remove(event.workplaceId());
+            return;
+        }
+        workplaceRepository.findById(event.workplaceId())
+                .filter(workplace -> workplace.getLocation() != null)
+                .ifPresentOrElse(
+                        workplace -> workplaceSpatialIndex.upsert(WorkplaceSpatialIndex.Entry.from(workplace)),
+                        () -> workplaceSpatialIndex.remove(event.workplaceId()));
+    }
+}
@@ -0,0 +1,15 @@
+package roomit.main.global.cache;
+
+public record CacheStats(
+    long hitCount,
+    long missCount,
+    long evictionCount,
+    long invalidationCount,
+    int size
+) {
+
+  public double hitRate() {
+    long requestCount = hitCount + missCount;
+    return (requestCount == 0) ? 0.0 : (double) hitCount / requestCount;
+  }
+}
@@ -0,0 +1,120 @@
+package roomit.main.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기와 TTL을 가진 프로세스 내부 캐시
+ * 가장 오래 사용되지 않은 항목부터 제거하며, 만료된 항목은 조회 시점에 제거한다
+ */
+public class ExpiringLruCache<K, V> {
+
+  private final int maxSize;
+  private final long defaultTtlNanos;
+  private final LongSupplier nanoClock;
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder invalidationCount = new LongAdder();
+
+  public ExpiringLruCache(int maxSize, Duration defaultTtl) {
+    this(maxSize, defaultTtl, System::nanoTime);
+  }
+
+  ExpiringLruCache(int maxSize, Duration defaultTtl, LongSupplier nanoClock) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+    }
+    this.maxSize = maxSize;
+    this.defaultTtlNanos = defaultTtl.toNanos();
+    this.nanoClock = nanoClock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) { // 접근 순서 유지 (LRU)
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        if (size() > ExpiringLruCache.this.maxSize) {
+          evictionCount.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      missCount.increment();
+      return null;
+    }
+    if (entry.isExpired(nanoClock.getAsLong())) {
+      entries.remove(key);
+      evictionCount.increment();
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    return entry.value();
+  }
+
+  public void put(K key, V value) {
+    put(key, value, defaultTtlNanos);
+  }
+
+  public void put(K key, V value, Duration ttl) {
+    put(key, value, ttl.toNanos());
+  }
+
+  private synchronized void put(K key, V value, long ttlNanos) {
+    entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+  }
+
+  public synchronized void invalidate(K key) {
+    if (entries.remove(key) != null) {
+      invalidationCount.increment();
+    }
+  }
+
+  // 조건에 맞는 키를 모두 무효화 (예: 폴더 prefix 단위 무효화)
+  public synchronized void invalidateIf(Predicate<K> condition) {
+    Iterator<K> iterator = entries.keySet().iterator();
+    while (iterator.hasNext()) {
+      if (condition.test(iterator.next())) {
+        iterator.remove();
+        invalidationCount.increment();
+      }
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    invalidationCount.add(entries.size());
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(
+        hitCount.sum(),
+        missCount.sum(),
+        evictionCount.sum(),
+        invalidationCount.sum(),
+        size()
+    );
+  }
+
+  private record Entry<V>(V value, long expiresAtNanos) {
+
+    boolean isExpired(long now) {
+      return now - expiresAtNanos >= 0;
+    }
+  }
+}
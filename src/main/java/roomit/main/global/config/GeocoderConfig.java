@@ -0,0 +1,32 @@
+package roomit.main.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import roomit.main.global.geocoding.CachingGeocoder;
+import roomit.main.global.geocoding.Geocoder;
+import roomit.main.global.geocoding.KakaoGeocoder;
+import roomit.main.global.geocoding.StubGeocoder;
+
+@Configuration
+public class GeocoderConfig {
+
+    // geocoder.type=stub 이면 외부 API 없이 동작 (로컬/테스트용)
+    @Bean
+    public Geocoder geocoder(WebClient webClient,
+                             ObjectMapper objectMapper,
+                             RedisTemplate<String, Object> redisTemplate,
+                             @Value("${geocoder.type:kakao}") String type,
+                             @Value("${geocoder.cache.max-size:5000}") int cacheMaxSize,
+                             @Value("${geocoder.cache.ttl-seconds:86400}") long cacheTtlSeconds) {
+        Geocoder delegate = "stub".equalsIgnoreCase(type)
+                ? new StubGeocoder()
+                : new KakaoGeocoder(webClient, objectMapper);
+
+        return new CachingGeocoder(delegate, redisTemplate, cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+    }
+}
@@ -0,0 +1,76 @@
+package roomit.main.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.web.reactive.function.client.WebClient;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.domain.workplace.service.CollaborativeModel;
+import roomit.main.domain.workplace.service.LocalWorkplaceRecommender;
+import roomit.main.domain.workplace.service.PopularWorkplaceRecommender;
+import roomit.main.domain.workplace.service.RemoteWorkplaceRecommender;
+import roomit.main.domain.workplace.service.WorkplaceRecommender;
+import roomit.main.domain.workplace.service.WorkplaceSpatialIndex;
+
+@Slf4j
+@Configuration
+public class RecommendationConfig {
+
+    private static final List<Integer> AGE_GROUPS = List.of(10, 20, 30, 40);
+
+    // recommendation.engine=remote(기본) 이면 기존 Flask 서버(AI.URL) 호출 (장애 시 인기 사업장으로 대체)
+    // local 이면 recommendation.model-location 의 factors_{연령대}s.json 을 읽음
+    // 모델 파일은 저장소에 두지 않고 python-server/export_factors.py 로 변환해 배포 (README 추천 모델 배포)
+    @Bean
+    public WorkplaceRecommender workplaceRecommender(ResourceLoader resourceLoader,
+                                                     ObjectMapper objectMapper,
+                                                     WorkplaceSpatialIndex workplaceSpatialIndex,
+                                                     WorkplaceRepository workplaceRepository,
+                                                     @Value("${recommendation.engine:remote}") String engine,
+                                                     @Value("${recommendation.model-location:file:./recommendation/}") String modelLocation,
+                                                     WebClient.Builder webClientBuilder,
+                                                     @Value("${AI.URL:}") String url,
+                                                     @Value("${recommendation.remote.connect-timeout-ms:1000}") long connectTimeoutMs,
+                                                     @Value("${recommendation.remote.read-timeout-ms:3000}") long readTimeoutMs,
+                                                     @Value("${recommendation.remote.max-connections:20}") int maxConnections,
+                                                     @Value("${recommendation.remote.max-concurrent-calls:10}") int maxConcurrentCalls,
+                                                     @Value("${recommendation.remote.circuit.failure-threshold:5}") int failureThreshold,
+                                                     @Value("${recommendation.remote.circuit.open-seconds:30}") long openSeconds,
+                                                     @Value("${recommendation.remote.fallback-cache.max-size:10000}") int cacheSize,
+                                                     @Value("${recommendation.remote.fallback-cache.ttl-seconds:3600}") long cacheTtlSeconds) throws IOException {
+        if ("remote".equalsIgnoreCase(engine)) {
+            RemoteWorkplaceRecommender.Settings settings = new RemoteWorkplaceRecommender.Settings(url,
+                    Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs), maxConnections,
+                    maxConcurrentCalls, failureThreshold, Duration.ofSeconds(openSeconds),
+                    cacheSize, Duration.ofSeconds(cacheTtlSeconds));
+            return new RemoteWorkplaceRecommender(settings, webClientBuilder,
+                    new PopularWorkplaceRecommender(workplaceSpatialIndex, workplaceRepository));
+        }
+
+        Map<Integer, CollaborativeModel> models = new HashMap<>();
+        for (Integer ageGroup : AGE_GROUPS) {
+            Resource resource = resourceLoader.getResource(modelLocation + "factors_" + ageGroup + "s.json");
+            // 모델 없이 기동하면 개인화 추천 대신 조용히 다른 결과를 내게 되므로 기동을 멈춤
+            if (!resource.exists()) {
+                throw new IllegalStateException(ageGroup + "대 추천 모델이 없습니다: " + resource.getDescription()
+                        + " (recommendation.model-location 확인)");
+            }
+            try (InputStream inputStream = resource.getInputStream()) {
+                models.put(ageGroup, CollaborativeModel.load(inputStream, objectMapper));
+            }
+        }
+        log.info("추천 모델 로드 완료: {}", models.keySet());
+
+        return new LocalWorkplaceRecommender(models, workplaceSpatialIndex, workplaceRepository);
+    }
+}
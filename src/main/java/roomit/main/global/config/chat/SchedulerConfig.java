@@ -1,9 +1,32 @@
 package roomit.main.global.config.chat;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 @EnableScheduling
 @Configuration
-public class SchedulerConfig {
-}
\ No newline at end of file
+public class SchedulerConfig implements SchedulingConfigurer {
+
+    // @Scheduled 작업 전용 스레드 풀
+    // 기본 스케줄러는 스레드가 1개라 위치 인덱스 재적재, 예약 만료/정합성 작업, 통계 로그가 서로를 밀어냄
+    @Value("${spring.task.scheduling.pool.size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler());
+    }
+}
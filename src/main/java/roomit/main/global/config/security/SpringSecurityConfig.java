@@ -145,6 +145,7 @@ public class SpringSecurityConfig {
 
                         //PresignedURL
                         .requestMatchers(HttpMethod.GET,"/api/generate-presigned-url").hasRole("BUSINESS")
+                        .requestMatchers(HttpMethod.POST,"/api/upload-complete").hasRole("BUSINESS")
                         .requestMatchers(HttpMethod.DELETE,"/api/delete-folder").hasRole("BUSINESS")
 
                         //멤버 권한 설정
@@ -157,6 +158,7 @@ public class SpringSecurityConfig {
                         .requestMatchers(HttpMethod.GET,"/api/v1/studyroom/workplace/**").permitAll()           //사업장의 스터디룸 찾기
                         .requestMatchers(HttpMethod.POST, "/api/v1/studyroom/available").permitAll()             //예약가능한 스터디룸 찾기
                         .requestMatchers(HttpMethod.GET,"/api/v1/studyroom/search/**").permitAll()              //스터디룸의 예약 가능한 시간대
+                        .requestMatchers(HttpMethod.GET,"/api/v1/studyroom/calendar/**").permitAll()            //사업장 스터디룸 예약 가능 달력
                         .requestMatchers(HttpMethod.GET,"/api/v1/studyroom/**").permitAll()                     //스터디룸 상세 정보
                         .requestMatchers(HttpMethod.POST,"/api/v1/studyroom").hasRole("BUSINESS")               //스터디룸 등록
                         .requestMatchers(HttpMethod.PUT,"/api/v1/studyroom").hasRole("BUSINESS")                //스터디룸 수정
@@ -172,6 +174,7 @@ public class SpringSecurityConfig {
 //                        .requestMatchers(HttpMethod.GET,"/api/v1/workplace").permitAll() //사업장 조회
                         .requestMatchers(HttpMethod.GET,"/api/v1/workplace/business").hasRole("BUSINESS") //접속한 사업자 사업자ID로 사업장 조회**
                         .requestMatchers(HttpMethod.POST,"/api/v1/workplace/distance").permitAll() //위치 기반 주변 사업장
+                        .requestMatchers(HttpMethod.GET,"/api/v1/workplace/nearest").permitAll() //가까운 순 사업장 (커서 페이지)
                         .requestMatchers(HttpMethod.POST,"/api/v1/workplace").hasRole("BUSINESS") //사업장 등록
                         .requestMatchers(HttpMethod.PUT,"/api/v1/workplace/**").hasRole("BUSINESS") //사업장 정보 수정
                         .requestMatchers(HttpMethod.DELETE,"/api/v1/workplace/**").hasRole("BUSINESS") //사업장 삭제
@@ -181,6 +184,7 @@ public class SpringSecurityConfig {
                         .requestMatchers(HttpMethod.PUT,"/api/v1/reservations/**").hasAnyRole("USER","BUSINESS") //예약 수정
                         .requestMatchers(HttpMethod.DELETE,"/api/v1/reservations/**").hasAnyRole("BUSINESS","USER") //예약 삭제
                         .requestMatchers(HttpMethod.GET,"/api/v1/all/reservations/member/**").hasAnyRole("USER") //특정 멤버의 최근 예약 단건 조회
+                        .requestMatchers(HttpMethod.GET,"/api/v1/reservations/dashboard").hasRole("BUSINESS") //사업자 예약 대시보드
                         .requestMatchers(HttpMethod.GET,"/api/v1/reservations/**").hasAnyRole("USER") //특정 멤버의 최근 예약 전체 조회
                         .requestMatchers(HttpMethod.GET,"/api/v1/reservations/workplace/**").hasAnyRole("BUSINESS","USER") //특정 사업장의 예약 찾기
 
@@ -3,12 +3,16 @@ package roomit.main.global.controller;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import roomit.main.domain.business.dto.CustomBusinessDetails;
 import roomit.main.global.service.FileLocationService;
 import roomit.main.global.service.FileUploadService;
+import roomit.main.global.service.ImageManifestService;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +20,7 @@ public class FileController {
 
     private final FileUploadService fileUploadService;
     private final FileLocationService fileLocationService;
+    private final ImageManifestService imageManifestService;
 
     @GetMapping("/api/generate-presigned-url")
     public ResponseEntity<Object> generatePresignedUrls(@RequestParam(required = false) String fileName,
@@ -24,6 +29,8 @@ public class FileController {
         // 단일 URL 생성
         if(fileName != null && fileLocation != null) {
             Map<String, Object> singleUrl = fileUploadService.generatePreSignUrl(fileName, fileLocation);
+            // 캐시는 업로드 완료(/api/upload-complete) 시 비우고, 그 전까지는 짧게만 캐싱
+            fileLocationService.markUploadPending(fileLocation, FileUploadService.PRESIGN_DURATION);
             return ResponseEntity.ok(singleUrl);
         }
 
@@ -32,8 +39,17 @@ public class FileController {
     }
 
 
+    // presigned URL 로 업로드를 마친 뒤 호출하여 이미지 key 를 DB 에 기록
+    @PostMapping("/api/upload-complete")
+    public void completeUpload(@AuthenticationPrincipal CustomBusinessDetails customBusinessDetails,
+                               @RequestParam String fileName,
+                               @RequestParam String fileLocation) {
+        imageManifestService.completeUpload(customBusinessDetails.getId(), fileName, fileLocation);
+    }
+
     @DeleteMapping("/api/delete-folder")
     public void deleteFolder(@RequestParam(required = false) String fileLocation) {
         fileLocationService.deleteImageFromFolder(fileLocation);
+        imageManifestService.clearFolder(fileLocation);
     }
 }
\ No newline at end of file
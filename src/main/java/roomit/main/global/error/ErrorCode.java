@@ -24,6 +24,11 @@ public enum ErrorCode {
     RESERVATION_CANNOT_CANCEL(HttpStatus.BAD_REQUEST,"R006","예약취소는 당일에는 불가능합니다.."),
     DUPLICATE_RESERVATION(HttpStatus.BAD_REQUEST,"R007","예약 시간이 겹칩니다."),
     RESERVATION_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "R008", "취소된 예약입니다."),
+    RESERVATION_EXPIRED(HttpStatus.BAD_REQUEST, "R009", "결제 시간이 지나 만료된 예약입니다."),
+    RESERVATION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "R010", "잘못된 페이지 요청입니다."),
+    RESERVATION_DASHBOARD_REBUILDING(HttpStatus.SERVICE_UNAVAILABLE, "R011", "예약 집계를 다시 만드는 중입니다. 잠시 후 다시 시도해 주세요."),
+    RESERVATION_PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "R012", "결제에 실패한 예약입니다. 다시 예약해 주세요."),
+    RESERVATION_TOO_LONG(HttpStatus.BAD_REQUEST, "R013", "예약은 최대 24시간까지 가능합니다."),
 
     /*StudyRoom*/
     STUDYROOM_NOT_FOUND(HttpStatus.NOT_FOUND,"S001","존재하지 않는 스터디룸입니다."),
@@ -31,6 +36,7 @@ public enum ErrorCode {
     STUDYROOM_NOT_REGISTERD(HttpStatus.BAD_REQUEST, "S003","스터디룸 등록에 실패하였습니다."),
     STUDYROOM_NOT_MODIFY(HttpStatus.BAD_REQUEST, "S004","스터디룸 수정에 실패하였습니다."),
     STUDYROOM_NOT_DELETE(HttpStatus.BAD_REQUEST, "S004","스터디룸 삭제에 실패하였습니다."),
+    STUDYROOM_INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "S005","조회 기간이 올바르지 않습니다."),
 
     /*Business*/
     BUSINESS_NOT_FOUND(HttpStatus.BAD_REQUEST, "B003", "존재 하지 않는 사업자입니다."),
@@ -49,6 +55,7 @@ public enum ErrorCode {
     WORKPLACE_INVALID_REQUEST(HttpStatus.BAD_REQUEST,"W001-2","잘못된 입력입니다."),
     WORKPLACE_INVALID_ADDRESS(HttpStatus.BAD_REQUEST,"W001-3","잘못된 주소입니다."),
     WORKPLACE_RECOMMEND_FAIL(HttpStatus.BAD_REQUEST,"W005","맞춤형 추천에 실패하였습니다."),
+    WORKPLACE_GEOCODING_FAILED(HttpStatus.SERVICE_UNAVAILABLE,"W006","주소를 좌표로 변환하지 못했습니다."),
     PYTHON_CONNECTED_FAIL(HttpStatus.BAD_REQUEST,"W006","파이썬 서버와 통신에 실패하였습니다."),
 
     /*Review*/
@@ -72,6 +79,10 @@ public enum ErrorCode {
     /*S3*/
     S3_IMAGE_FETCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S001", "S3에서 이미지를 가져오는 데 실패했습니다."),
     S3_IMAGE_NOT_DELETE(HttpStatus.INTERNAL_SERVER_ERROR, "S002","S3에서 폴더를 삭제하는데 실패했습니다."),
+    S3_IMAGE_INVALID_TYPE(HttpStatus.BAD_REQUEST, "S003", "지원하지 않는 이미지 형식입니다."),
+    S3_IMAGE_FOLDER_NOT_FOUND(HttpStatus.NOT_FOUND, "S004", "이미지 폴더에 해당하는 사업장 또는 스터디룸이 없습니다."),
+    S3_IMAGE_INVALID_KEY(HttpStatus.BAD_REQUEST, "S005", "이미지 폴더 밖의 경로는 등록할 수 없습니다."),
+    S3_IMAGE_NOT_UPLOADED(HttpStatus.NOT_FOUND, "S006", "업로드된 이미지를 찾을 수 없습니다."),
 
     /*Login*/
     LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "L001", "로그인에 실패했습니다."),
@@ -84,6 +95,9 @@ public enum ErrorCode {
     TOKEN_VERIFICATION_FAILED(HttpStatus.UNAUTHORIZED, "T005", "토큰 검증에 실패했습니다."),
     INSUFFICIENT_ROLE(HttpStatus.FORBIDDEN, "T006", "권한이 부족합니다."),
 
+    /*Lock*/
+    LOCK_ACQUISITION_FAILED(HttpStatus.CONFLICT, "K001", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+
     /*Notice*/
     SUBSCRIBE_FAIL(HttpStatus.BAD_REQUEST, "N001", "구독 연결에 실패했습니다."),
 
@@ -0,0 +1,144 @@
+package roomit.main.global.geocoding;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import roomit.main.global.cache.CacheStats;
+import roomit.main.global.cache.ExpiringLruCache;
+
+/**
+ * 주소 -> 좌표 결과를 2단계로 캐싱
+ * 1단계: 서버 메모리 LRU, 2단계: Redis hash (만료 없음)
+ * 같은 주소를 다시 검색하면 외부 API 를 호출하지 않음
+ */
+@Slf4j
+public class CachingGeocoder implements Geocoder {
+
+    static final String GEOCODE_KEY = "geocode:address";
+
+    private final Geocoder delegate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ExpiringLruCache<String, GeoCoordinate> localCache;
+
+    public CachingGeocoder(Geocoder delegate, RedisTemplate<String, Object> redisTemplate,
+                           int maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.localCache = new ExpiringLruCache<>(maxSize, ttl);
+    }
+
+    @Override
+    public GeoCoordinate geocode(String address) {
+        String key = normalize(address);
+
+        GeoCoordinate cached = findCached(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        GeoCoordinate coordinate = delegate.geocode(address);
+        localCache.put(key, coordinate);
+        writeStored(key, coordinate);
+        return coordinate;
+    }
+
+    @Override
+    public CompletableFuture<GeoCoordinate> geocodeAsync(String address) {
+        return geocodeAsync(address, Runnable::run);
+    }
+
+    // Redis 저장(HSET)은 블로킹 호출이므로 WebClient 이벤트 루프가 아닌 executor 에서 실행
+    @Override
+    public CompletableFuture<GeoCoordinate> geocodeAsync(String address, Executor executor) {
+        String key = normalize(address);
+
+        GeoCoordinate cached = findCached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return delegate.geocodeAsync(address)
+                .thenApplyAsync(coordinate -> {
+                    localCache.put(key, coordinate);
+                    writeStored(key, coordinate);
+                    return coordinate;
+                }, executor);
+    }
+
+    /**
+     * 뒤에서부터 주소 단위를 줄여가며 캐시에 있는 좌표를 찾음
+     * ex) "서울 강남구 테헤란로 123" -> "서울 강남구 테헤란로" -> "서울 강남구"
+     */
+    @Override
+    public Optional<GeoCoordinate> findApproximate(String address) {
+        String key = normalize(address);
+        while (!key.isEmpty()) {
+            GeoCoordinate cached = findCached(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            int lastSpace = key.lastIndexOf(' ');
+            if (lastSpace < 0) {
+                break;
+            }
+            key = key.substring(0, lastSpace);
+        }
+        return Optional.empty();
+    }
+
+    public CacheStats getLocalCacheStats() {
+        return localCache.stats();
+    }
+
+    // 공백/전각 문자/대소문자 차이로 같은 주소가 다른 키가 되지 않도록 정규화
+    public static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        return Normalizer.normalize(address, Normalizer.Form.NFKC)
+                .replaceAll("\\s+", " ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private GeoCoordinate findCached(String key) {
+        GeoCoordinate cached = localCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        GeoCoordinate stored = readStored(key);
+        if (stored != null) {
+            localCache.put(key, stored);
+        }
+        return stored;
+    }
+
+    // Redis 장애 시에도 외부 API 로 계속 동작하도록 예외는 기록만 함
+    private GeoCoordinate readStored(String key) {
+        try {
+            Object value = redisTemplate.opsForHash().get(GEOCODE_KEY, key);
+            if (value == null) {
+                return null;
+            }
+            String[] parts = ((String) value).split(",");
+            return new GeoCoordinate(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("failed to read geocode cache for '{}'", key, e);
+            return null;
+        }
+    }
+
+    private void writeStored(String key, GeoCoordinate coordinate) {
+        try {
+            redisTemplate.opsForHash().put(GEOCODE_KEY, key, coordinate.latitude() + "," + coordinate.longitude());
+        } catch (RuntimeException e) {
+            log.warn("failed to write geocode cache for '{}'", key, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package roomit.main.global.geocoding;
+
+public record GeoCoordinate(
+        double latitude,
+        double longitude
+) {
+    public boolean isValid() {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+}
@@ -0,0 +1,34 @@
+package roomit.main.global.geocoding;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 주소 -> 좌표 변환
+ * 주소에 해당하는 좌표가 없으면 WORKPLACE_INVALID_ADDRESS,
+ * 외부 API 호출에 실패하면 WORKPLACE_GEOCODING_FAILED 예외를 던짐
+ */
+public interface Geocoder {
+
+    GeoCoordinate geocode(String address);
+
+    // 호출 스레드를 막지 않는 변환, 기본 구현은 동기 변환 결과를 감쌈
+    default CompletableFuture<GeoCoordinate> geocodeAsync(String address) {
+        try {
+            return CompletableFuture.completedFuture(geocode(address));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 응답 이후의 블로킹 작업(캐시 저장 등)을 I/O 스레드가 아닌 executor 에서 실행하는 변환
+    default CompletableFuture<GeoCoordinate> geocodeAsync(String address, Executor executor) {
+        return geocodeAsync(address);
+    }
+
+    // 외부 호출 없이 알고 있는 범위에서 가장 가까운 좌표 (지연 시 대체값)
+    default Optional<GeoCoordinate> findApproximate(String address) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,75 @@
+package roomit.main.global.geocoding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.WebClient;
+import roomit.main.global.error.ErrorCode;
+
+// 카카오 로컬 API 주소 검색
+@RequiredArgsConstructor
+public class KakaoGeocoder implements Geocoder {
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public GeoCoordinate geocode(String address) {
+        String response;
+        try {
+            response = webClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v2/local/search/address.json")
+                            .queryParam("query", address)
+                            .build())
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(); // 동기식 호출
+        } catch (Exception e) {
+            throw ErrorCode.WORKPLACE_GEOCODING_FAILED.commonException();
+        }
+
+        return parse(response);
+    }
+
+    @Override
+    public CompletableFuture<GeoCoordinate> geocodeAsync(String address) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v2/local/search/address.json")
+                        .queryParam("query", address)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class)
+                .toFuture()
+                .handle((response, e) -> {
+                    if (e != null) {
+                        throw ErrorCode.WORKPLACE_GEOCODING_FAILED.commonException();
+                    }
+                    return parse(response);
+                });
+    }
+
+    GeoCoordinate parse(String response) {
+        JsonNode document;
+        try {
+            document = objectMapper.readTree(response).path("documents").path(0);
+        } catch (Exception e) {
+            throw ErrorCode.WORKPLACE_GEOCODING_FAILED.commonException();
+        }
+
+        if (document.isMissingNode()) {
+            throw ErrorCode.WORKPLACE_INVALID_ADDRESS.commonException();
+        }
+
+        try {
+            return new GeoCoordinate(
+                    Double.parseDouble(document.path("y").asText()),
+                    Double.parseDouble(document.path("x").asText())
+            );
+        } catch (NumberFormatException e) {
+            throw ErrorCode.WORKPLACE_GEOCODING_FAILED.commonException();
+        }
+    }
+}
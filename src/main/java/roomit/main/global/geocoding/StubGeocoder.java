@@ -0,0 +1,35 @@
+package roomit.main.global.geocoding;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 없이 동작하는 테스트/로컬용 geocoder
+ * 등록된 주소는 등록된 좌표를, 그 외 주소는 주소 문자열로부터 계산한 서울 인근의 고정 좌표를 반환
+ */
+public class StubGeocoder implements Geocoder {
+
+    private static final double BASE_LATITUDE = 37.5665;
+    private static final double BASE_LONGITUDE = 126.9780;
+
+    private final Map<String, GeoCoordinate> coordinates = new ConcurrentHashMap<>();
+
+    public StubGeocoder register(String address, GeoCoordinate coordinate) {
+        coordinates.put(CachingGeocoder.normalize(address), coordinate);
+        return this;
+    }
+
+    @Override
+    public GeoCoordinate geocode(String address) {
+        String normalized = CachingGeocoder.normalize(address);
+        GeoCoordinate registered = coordinates.get(normalized);
+        if (registered != null) {
+            return registered;
+        }
+
+        int hash = normalized.hashCode();
+        double latitudeOffset = ((hash & 0xFFFF) / 65535.0 - 0.5) * 0.2;
+        double longitudeOffset = (((hash >>> 16) & 0xFFFF) / 65535.0 - 0.5) * 0.2;
+        return new GeoCoordinate(BASE_LATITUDE + latitudeOffset, BASE_LONGITUDE + longitudeOffset);
+    }
+}
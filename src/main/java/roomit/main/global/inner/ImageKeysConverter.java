@@ -0,0 +1,39 @@
+package roomit.main.global.inner;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+@Converter
+public class ImageKeysConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> imageKeys) {
+        if (imageKeys == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(imageKeys);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이미지 key 목록을 변환할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        try {
+            return List.copyOf(OBJECT_MAPPER.readValue(dbData, TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이미지 key 목록을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package roomit.main.global.inner;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -24,6 +27,11 @@ public class ImageUrl {
     @Column(name = "image_url", length = 255)
     private String value;
 
+    // 폴더에 업로드된 이미지의 S3 key 목록 (null 이면 아직 수집되지 않은 상태)
+    @Convert(converter = ImageKeysConverter.class)
+    @Column(name = "image_keys", columnDefinition = "TEXT")
+    private List<String> imageKeys;
+
     // 생성자에서 S3 버킷 URL과 리전 값을 받도록 수정
     public ImageUrl(final String imageUrl, final String s3BucketUrl, final String s3Region) {
         if (imageUrl == null) {
@@ -47,4 +55,24 @@ public class ImageUrl {
         // 유효한 경우 value에 S3 URL 저장
         this.value = s3Url;
     }
+
+    private ImageUrl(final String value, final List<String> imageKeys) {
+        this.value = value;
+        this.imageKeys = imageKeys;
+    }
+
+    public boolean hasImageManifest() {
+        return imageKeys != null;
+    }
+
+    // S3 ListObjectsV2 와 같은 순서(사전순)로 key 목록을 저장
+    public ImageUrl withImageKeys(final List<String> imageKeys) {
+        return new ImageUrl(value, List.copyOf(new TreeSet<>(imageKeys)));
+    }
+
+    public ImageUrl addImageKey(final String imageKey) {
+        TreeSet<String> keys = new TreeSet<>(imageKeys == null ? List.of() : imageKeys);
+        keys.add(imageKey);
+        return new ImageUrl(value, List.copyOf(keys));
+    }
 }
@@ -0,0 +1,112 @@
+package roomit.main.global.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 서버 호출용 서킷 브레이커
+ * 연속 실패가 기준 횟수에 도달하면 OPEN 으로 바꾸고 일정 시간 호출을 막음
+ * 대기 시간이 지나면 HALF_OPEN 으로 한 번만 시험 호출을 허용하고, 성공하면 CLOSED 로 복구
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+    private long totalOpenNanos;
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder openCount = new LongAdder();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("실패 기준 횟수는 0보다 커야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출해도 되는지 확인, false 면 호출하지 말고 대체 응답을 사용
+     * true 를 받은 호출은 반드시 onSuccess / onFailure 중 하나를 호출해야 함
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        rejectedCount.increment();
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        successCount.increment();
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            close();
+        }
+    }
+
+    public synchronized void onFailure() {
+        failureCount.increment();
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized CircuitBreakerStats stats() {
+        long openNanos = totalOpenNanos;
+        if (state != State.CLOSED) {
+            openNanos += nanoClock.getAsLong() - openedAt;
+        }
+        return new CircuitBreakerStats(state, successCount.sum(), failureCount.sum(), rejectedCount.sum(),
+                openCount.sum(), Duration.ofNanos(openNanos));
+    }
+
+    private void open() {
+        if (state == State.CLOSED) {
+            openedAt = nanoClock.getAsLong();
+            openCount.increment();
+        } else {
+            // HALF_OPEN 시험 호출 실패: 대기 시간을 다시 시작 (열린 시간은 이어서 누적)
+            long now = nanoClock.getAsLong();
+            totalOpenNanos += now - openedAt;
+            openedAt = now;
+        }
+        state = State.OPEN;
+        trialInFlight = false;
+    }
+
+    private void close() {
+        totalOpenNanos += nanoClock.getAsLong() - openedAt;
+        state = State.CLOSED;
+        trialInFlight = false;
+    }
+}
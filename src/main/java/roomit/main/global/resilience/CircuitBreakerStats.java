@@ -0,0 +1,16 @@
+package roomit.main.global.resilience;
+
+import java.time.Duration;
+
+/**
+ * openTime: CLOSED 가 아니었던 시간의 합 (현재 열려 있으면 지금까지 포함)
+ */
+public record CircuitBreakerStats(
+        CircuitBreaker.State state,
+        long successCount,
+        long failureCount,
+        long rejectedCount,
+        long openCount,
+        Duration openTime
+) {
+}
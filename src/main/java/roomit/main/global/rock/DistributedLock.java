@@ -11,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 public @interface DistributedLock {
     /**
      * 락의 이름
+     * 컬렉션으로 평가되면 정렬된 순서로 모든 키를 한 번에 잡는다 (MultiLock)
      */
     String key();
 
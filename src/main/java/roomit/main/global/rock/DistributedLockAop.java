@@ -11,6 +11,9 @@ import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import roomit.main.global.error.ErrorCode;
 
 @Aspect
 @Component
@@ -28,26 +31,54 @@ public class DistributedLockAop {
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
 
-        String key = REDISSON_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
-        RLock rLock = redissonClient.getLock(key);  // 락의 이름으로 RLock 인스턴스 가져오기
+        Object dynamicValue = CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
+        List<String> keys = toLockKeys(dynamicValue);
+        RLock rLock = toLock(keys);  // 락의 이름으로 RLock 인스턴스 가져오기
 
+        boolean available = false;
         try {
-            boolean available = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
+            available = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
             //waitTime까지 획득을 시도, leaseTime이 지나면 잠금을 해제
             if (!available) {
-                return false;
+                log.warn("Redisson Lock Acquisition Failed serviceName={} keys={}", method.getName(), keys);
+                throw ErrorCode.LOCK_ACQUISITION_FAILED.commonException();
             }
 
             return aopForTransaction.proceed(joinPoint);  // DistributedLock 어노테이션이 선언된 메서드를 별도의 트랜잭션으로 실행
         } catch (InterruptedException e) {
-            throw new InterruptedException();
+            Thread.currentThread().interrupt();
+            throw ErrorCode.LOCK_ACQUISITION_FAILED.commonException();
         } finally {
-            try {
-                rLock.unlock();   // 종료 시 무조건 락을 해제
-            } catch (IllegalMonitorStateException e) {
-                log.info("Redisson Lock Already UnLock serviceName={} key={}", method.getName(), key);
+            if (available) {
+                try {
+                    rLock.unlock();   // 획득한 락은 종료 시 무조건 해제
+                } catch (IllegalMonitorStateException e) {
+                    log.info("Redisson Lock Already UnLock serviceName={} keys={}", method.getName(), keys);
+                }
             }
         }
     }
 
+    // 키가 여러 개면 교착을 막기 위해 항상 같은 순서(정렬)로 잡는다
+    private List<String> toLockKeys(Object dynamicValue) {
+        if (dynamicValue instanceof Collection<?> values) {
+            return values.stream()
+                .map(value -> REDISSON_LOCK_PREFIX + value)
+                .distinct()
+                .sorted()
+                .toList();
+        }
+        return List.of(REDISSON_LOCK_PREFIX + dynamicValue);
+    }
+
+    private RLock toLock(List<String> keys) {
+        if (keys.size() == 1) {
+            return redissonClient.getLock(keys.get(0));
+        }
+        RLock[] locks = keys.stream()
+            .map(redissonClient::getLock)
+            .toArray(RLock[]::new);
+        return redissonClient.getMultiLock(locks);
+    }
+
 }
@@ -1,19 +1,41 @@
 package roomit.main.global.service;
 
+import java.time.Duration;
+import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import roomit.main.global.cache.CacheStats;
+import roomit.main.global.cache.ExpiringLruCache;
 import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+import roomit.main.global.inner.ImageUrl;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 @Service
@@ -22,6 +44,23 @@ public class FileLocationService {
 
   private final S3Client s3Client;
 
+  // 폴더 경로(prefix) -> 이미지 URL 목록
+  private final ExpiringLruCache<String, List<String>> imageManifestCache;
+
+  // 폴더 경로(prefix) -> 대표 이미지 URL
+  private final ExpiringLruCache<String, String> thumbnailCache;
+
+  private final Duration emptyManifestTtl;
+
+  // 업로드 URL 이 발급된 폴더 경로 -> URL 만료 시각(ms), 업로드가 끝나기 전에 읽은 목록은 짧게만 캐싱
+  private final Map<String, Long> pendingUploads = new ConcurrentHashMap<>();
+
+  // 대표 이미지 조회 시 한 번에 가져올 key 수
+  private final int thumbnailMaxKeys;
+
+  // 목록 조회 시 여러 폴더를 동시에 조회하기 위한 제한된 크기의 스레드 풀
+  private final ThreadPoolExecutor listingExecutor;
+
   @Value("${amazon.aws.bucket}")
   private String bucketName;
 
@@ -31,9 +70,16 @@ public class FileLocationService {
   // 이미지 확장자를 상수로 정의
   private static final Set<String> IMAGE_EXTENSIONS = Set.of(".jpg", ".png", ".jpeg", ".gif", ".bmp", ".webp", ".tiff");
 
+  private static final String EMPTY_IMAGE_MESSAGE = "S3 이미지를 불러오는데 실패했습니다.";
+
   public FileLocationService(@Value("${amazon.aws.accessKey}") String accessKey,
                              @Value("${amazon.aws.secretKey}") String secretKey,
-                             @Value("${amazon.aws.region}") String region) {
+                             @Value("${amazon.aws.region}") String region,
+                             @Value("${image.cache.max-size:2000}") int cacheMaxSize,
+                             @Value("${image.cache.ttl-seconds:600}") long cacheTtlSeconds,
+                             @Value("${image.cache.empty-ttl-seconds:30}") long emptyCacheTtlSeconds,
+                             @Value("${image.listing.parallelism:8}") int listingParallelism,
+                             @Value("${image.thumbnail.max-keys:20}") int thumbnailMaxKeys) {
     // 자격 증명 및 리전 정보를 사용하여 S3Client 초기화
     AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
@@ -41,18 +87,265 @@ public class FileLocationService {
         .region(Region.of(region)) // 프로퍼티에서 리전 정보 설정
         .credentialsProvider(StaticCredentialsProvider.create(credentials)) // 자격 증명 제공
         .build();
+
+    this.imageManifestCache = new ExpiringLruCache<>(cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+    this.thumbnailCache = new ExpiringLruCache<>(cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+    this.thumbnailMaxKeys = thumbnailMaxKeys;
+    // 업로드 직후 빈 목록이 오래 남지 않도록 빈 결과는 짧게 캐싱
+    this.emptyManifestTtl = Duration.ofSeconds(emptyCacheTtlSeconds);
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    // 큐가 가득 차면 호출 스레드에서 직접 조회하여 동시 요청 수를 제한
+    this.listingExecutor = new ThreadPoolExecutor(listingParallelism, listingParallelism,
+        60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(listingParallelism * 16),
+        runnable -> {
+          Thread thread = new Thread(runnable, "s3-listing-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    this.listingExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    listingExecutor.shutdown();
   }
 
   public List<String> getImagesFromFolder(String folderPath) {
-    List<String> imageUrls = new ArrayList<>();
+    String path = toFolderPath(folderPath);
+
+    List<String> cached = imageManifestCache.get(path);
+    if (cached != null) {
+      return cached;
+    }
+
+    return loadImages(path);
+  }
+
+  // S3 에서 폴더 목록을 읽어 캐시에 저장
+  private List<String> loadImages(String path) {
+    String baseUrl = getBaseUrl();
+    List<String> imageUrls = listImageKeys(path).stream()
+        .map(key -> baseUrl + key)
+        .toList();
+
+    if (imageUrls.isEmpty()) {
+      List<String> emptyResult = List.of(EMPTY_IMAGE_MESSAGE);
+      imageManifestCache.put(path, emptyResult, emptyManifestTtl);
+      return emptyResult;
+    }
+
+    if (isUploadPending(path)) {
+      imageManifestCache.put(path, imageUrls, emptyManifestTtl);
+    } else {
+      imageManifestCache.put(path, imageUrls);
+    }
+    return imageUrls;
+  }
+
+  /**
+   * DB에 저장된 이미지 key 목록으로 URL 생성
+   * 아직 key 목록이 수집되지 않은 경우에만 S3 목록 조회로 대체
+   */
+  public List<String> getImages(ImageUrl imageUrl) {
+    return getImages(imageUrl.getValue(), imageUrl.getImageKeys());
+  }
+
+  public List<String> getImages(String folderUrl, List<String> imageKeys) {
+    if (imageKeys == null) {
+      return getImagesFromFolder(folderUrl);
+    }
+    if (imageKeys.isEmpty()) {
+      return List.of(EMPTY_IMAGE_MESSAGE);
+    }
+    String baseUrl = getBaseUrl();
+    return imageKeys.stream()
+        .map(key -> baseUrl + key)
+        .toList();
+  }
+
+  /**
+   * 카드형 응답에서 쓰는 대표 이미지(첫 번째 이미지) 조회
+   * 전체 목록을 만들지 않고 첫 번째 이미지 key 를 찾는 즉시 반환
+   */
+  public String getThumbnail(String folderUrl) {
+    String path = toFolderPath(folderUrl);
+
+    String cached = findCachedThumbnail(path);
+    if (cached != null) {
+      return cached;
+    }
+
+    return loadThumbnail(path);
+  }
+
+  // 대표 이미지 캐시에 없으면 이미 캐싱된 전체 이미지 목록의 첫 번째 이미지를 사용 (S3 를 다시 조회하지 않음)
+  private String findCachedThumbnail(String path) {
+    String cached = thumbnailCache.get(path);
+    if (cached != null) {
+      return cached;
+    }
+
+    List<String> manifest = imageManifestCache.get(path);
+    return manifest == null || manifest.isEmpty() ? null : manifest.get(0);
+  }
+
+  public String getThumbnail(ImageUrl imageUrl) {
+    return getThumbnail(imageUrl.getValue(), imageUrl.getImageKeys());
+  }
+
+  public String getThumbnail(String folderUrl, List<String> imageKeys) {
+    if (imageKeys == null) {
+      return getThumbnail(folderUrl);
+    }
+    return imageKeys.isEmpty() ? EMPTY_IMAGE_MESSAGE : getBaseUrl() + imageKeys.get(0);
+  }
+
+  private String loadThumbnail(String path) {
+    String imageKey = findFirstImageKey(path);
+
+    if (imageKey == null) {
+      thumbnailCache.put(path, EMPTY_IMAGE_MESSAGE, emptyManifestTtl);
+      return EMPTY_IMAGE_MESSAGE;
+    }
+
+    String thumbnail = getBaseUrl() + imageKey;
+    if (isUploadPending(path)) {
+      thumbnailCache.put(path, thumbnail, emptyManifestTtl);
+    } else {
+      thumbnailCache.put(path, thumbnail);
+    }
+    return thumbnail;
+  }
+
+  // S3 는 key 를 사전순으로 반환하므로 처음 찾은 이미지가 전체 목록의 첫 번째 이미지와 같음
+  private String findFirstImageKey(String path) {
+    try {
+      // delimiter 로 하위 폴더의 객체는 제외하고 폴더 바로 아래 파일만 조회
+      ListObjectsV2Request request = ListObjectsV2Request.builder()
+          .bucket(bucketName)
+          .prefix(path + "/")
+          .delimiter("/")
+          .maxKeys(thumbnailMaxKeys)
+          .build();
+
+      ListObjectsV2Response response;
+      do {
+        response = s3Client.listObjectsV2(request);
+
+        for (S3Object object : response.contents()) {
+          if (isImageFile(object.key())) {
+            return object.key();
+          }
+        }
+
+        request = request.toBuilder()
+            .continuationToken(response.nextContinuationToken())
+            .build();
+      } while (response.isTruncated());
+
+    } catch (Exception e) {
+      throw ErrorCode.S3_IMAGE_FETCH_FAILED.commonException();
+    }
+
+    return null;
+  }
 
-    String baseUrl = "https://s3." + region  + ".amazonaws.com/" + bucketName + "/";
+  /**
+   * 여러 폴더의 대표 이미지(첫 번째 이미지)를 한 번에 조회
+   * 중복 폴더는 한 번만 조회하고, 대표 이미지/이미지 목록 캐시에 모두 없는 폴더만 병렬로 S3 목록을 요청
+   * @return 폴더 URL -> 대표 이미지 URL
+   */
+  public Map<String, String> resolveThumbnails(Collection<String> folderUrls) {
+    Map<String, String> thumbnails = new LinkedHashMap<>();
+    Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
 
-    log.info("baseUrl: {}", baseUrl);
+    for (String folderUrl : new LinkedHashSet<>(folderUrls)) {
+      String path = toFolderPath(folderUrl);
+      String cached = findCachedThumbnail(path);
+      if (cached != null) {
+        thumbnails.put(folderUrl, cached);
+        continue;
+      }
+      pending.put(folderUrl, CompletableFuture.supplyAsync(() -> loadThumbnail(path), listingExecutor));
+    }
+
+    try {
+      CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof CommonException commonException) {
+        throw commonException;
+      }
+      throw ErrorCode.S3_IMAGE_FETCH_FAILED.commonException();
+    }
+
+    pending.forEach((folderUrl, future) -> thumbnails.put(folderUrl, future.join()));
+    return thumbnails;
+  }
+
+  /**
+   * 엔티티 이미지의 대표 이미지를 한 번에 조회
+   * key 목록이 저장된 경우 S3 를 거치지 않고, 나머지만 묶어서 조회
+   * @return 폴더 URL -> 대표 이미지 URL
+   */
+  public Map<String, String> resolveThumbnailsByImageUrl(Collection<ImageUrl> imageUrls) {
+    Map<String, String> thumbnails = new HashMap<>();
+    List<String> missingFolders = new ArrayList<>();
+
+    for (ImageUrl imageUrl : imageUrls) {
+      if (imageUrl.hasImageManifest()) {
+        thumbnails.put(imageUrl.getValue(), getThumbnail(imageUrl));
+      } else {
+        missingFolders.add(imageUrl.getValue());
+      }
+    }
+
+    thumbnails.putAll(resolveThumbnails(missingFolders));
+    return thumbnails;
+  }
 
+  // 이미지 URL(https://s3...) 을 버킷 기준 폴더 경로로 변환
+  public String toFolderPath(String folderUrl) {
+    String baseUrl = getBaseUrl();
+    if (folderUrl == null || !folderUrl.startsWith(baseUrl)) {
+      throw ErrorCode.S3_IMAGE_FETCH_FAILED.commonException();
+    }
+    return folderUrl.substring(baseUrl.length());  // baseUrl 길이만큼 잘라냄
+  }
+
+  // 객체가 실제로 업로드되었는지 확인 (HEAD 요청)
+  public boolean exists(String key) {
     try {
-      String path = folderPath.substring(baseUrl.length());  // baseUrl 길이만큼 잘라냄
+      s3Client.headObject(HeadObjectRequest.builder()
+          .bucket(bucketName)
+          .key(key)
+          .build());
+      return true;
+    } catch (NoSuchKeyException e) {
+      return false;
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        return false;
+      }
+      throw ErrorCode.S3_IMAGE_FETCH_FAILED.commonException();
+    }
+  }
+
+  public boolean isImageFile(String key) {
+    for (String extension : IMAGE_EXTENSIONS) {
+      if (key.endsWith(extension)) {
+        return true;
+      }
+    }
+    return false;
+  }
 
+  // 폴더에 직접 속한 이미지 파일의 key 목록 (캐시를 거치지 않음)
+  public List<String> listImageKeys(String path) {
+    List<String> imageKeys = new ArrayList<>();
+
+    try {
       // S3 객체 목록 요청
       ListObjectsV2Request request = ListObjectsV2Request.builder()
           .bucket(bucketName)
@@ -63,23 +356,14 @@ public class FileLocationService {
       do {
         response = s3Client.listObjectsV2(request);
 
-
         // 리스트가 비어있지 않다면
         if (response.contents() != null && !response.contents().isEmpty()) {
           for (S3Object object : response.contents()) {
             String key = object.key();
 
-            // 해당 파일이 지정한 폴더에 속한 직접적인 파일인지 확인
-            if (key.startsWith(path + "/") && !key.substring(path.length() + 1).contains("/")) {
-              // 이미지 파일인지 확인 (확장자 필터)
-              for (String extension : IMAGE_EXTENSIONS) {
-                if (key.endsWith(extension)) {
-                  String imageUrl = baseUrl + key;
-                  imageUrls.add(imageUrl);
-                  log.info("imageUrl: {}", imageUrl);
-                  break;
-                }
-              }
+            // 해당 파일이 지정한 폴더에 속한 직접적인 파일인지 확인, 이미지 파일인지 확인 (확장자 필터)
+            if (key.startsWith(path + "/") && !key.substring(path.length() + 1).contains("/") && isImageFile(key)) {
+              imageKeys.add(key);
             }
           }
         }
@@ -94,10 +378,110 @@ public class FileLocationService {
       throw ErrorCode.S3_IMAGE_FETCH_FAILED.commonException();
     }
 
-    if(imageUrls.isEmpty()){
-    imageUrls.add("S3 이미지를 불러오는데 실패했습니다.");
+    return imageKeys;
+  }
+
+  /**
+   * 버킷 전체를 한 번 순회하여 폴더별 이미지 key 목록을 수집
+   * 기존 데이터의 key 목록을 채우는 백필 작업에서만 사용
+   */
+  public Map<String, List<String>> listAllImageKeysByFolder() {
+    Map<String, List<String>> imageKeysByFolder = new HashMap<>();
+
+    try {
+      ListObjectsV2Request request = ListObjectsV2Request.builder()
+          .bucket(bucketName)
+          .build();
+
+      ListObjectsV2Response response;
+      do {
+        response = s3Client.listObjectsV2(request);
+
+        for (S3Object object : response.contents()) {
+          String key = object.key();
+          int lastSlash = key.lastIndexOf('/');
+          if (lastSlash <= 0 || !isImageFile(key)) {
+            continue;
+          }
+          imageKeysByFolder.computeIfAbsent(key.substring(0, lastSlash), folder -> new ArrayList<>()).add(key);
+        }
+
+        request = request.toBuilder()
+            .continuationToken(response.nextContinuationToken())
+            .build();
+      } while (response.isTruncated());
+
+    } catch (Exception e) {
+      throw ErrorCode.S3_IMAGE_FETCH_FAILED.commonException();
     }
-    return imageUrls;
+
+    return imageKeysByFolder;
+  }
+
+  /**
+   * 업로드 URL 발급 시 호출
+   * URL 이 유효한 동안 이 폴더의 목록은 짧은 TTL 로만 캐싱하여, 업로드 완료 통보가 없어도 오래된 목록이 남지 않게 함
+   */
+  public void markUploadPending(String folderPath, Duration window) {
+    if (folderPath == null || folderPath.isBlank()) {
+      return;
+    }
+    pendingUploads.put(trimSlash(folderPath), System.currentTimeMillis() + window.toMillis());
+  }
+
+  private boolean isUploadPending(String path) {
+    Long until = pendingUploads.get(path);
+    if (until == null) {
+      return false;
+    }
+    if (until < System.currentTimeMillis()) {
+      pendingUploads.remove(path, until);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 해당 폴더와 하위 폴더의 캐시를 무효화
+   * 폴더 삭제, 업로드 완료 시 호출
+   */
+  public void evictImages(String folderPath) {
+    if (folderPath == null || folderPath.isBlank()) {
+      return;
+    }
+    String prefix = trimSlash(folderPath);
+    pendingUploads.keySet().removeIf(path -> path.equals(prefix) || path.startsWith(prefix + "/"));
+    imageManifestCache.invalidateIf(path -> path.equals(prefix) || path.startsWith(prefix + "/"));
+    thumbnailCache.invalidateIf(path -> path.equals(prefix) || path.startsWith(prefix + "/"));
+  }
+
+  private String trimSlash(String folderPath) {
+    return folderPath.endsWith("/") ? folderPath.substring(0, folderPath.length() - 1) : folderPath;
+  }
+
+  public CacheStats getImageCacheStats() {
+    return imageManifestCache.stats();
+  }
+
+  public CacheStats getThumbnailCacheStats() {
+    return thumbnailCache.stats();
+  }
+
+  @Scheduled(fixedDelayString = "${image.cache.stats-log-interval:600000}")
+  public void logImageCacheStats() {
+    CacheStats stats = imageManifestCache.stats();
+    log.info("image manifest cache - size: {}, hit: {}, miss: {}, eviction: {}, invalidation: {}, hitRate: {}",
+        stats.size(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+        stats.invalidationCount(), String.format("%.2f", stats.hitRate()));
+
+    CacheStats thumbnailStats = thumbnailCache.stats();
+    log.info("image thumbnail cache - size: {}, hit: {}, miss: {}, eviction: {}, invalidation: {}, hitRate: {}",
+        thumbnailStats.size(), thumbnailStats.hitCount(), thumbnailStats.missCount(), thumbnailStats.evictionCount(),
+        thumbnailStats.invalidationCount(), String.format("%.2f", thumbnailStats.hitRate()));
+  }
+
+  private String getBaseUrl() {
+    return "https://s3." + region  + ".amazonaws.com/" + bucketName + "/";
   }
 
   public void deleteImageFromFolder(String folderPath) {
@@ -130,6 +514,8 @@ public class FileLocationService {
 
     } catch (Exception e) {
       throw ErrorCode.S3_IMAGE_NOT_DELETE.commonException();
+    } finally {
+      evictImages(folderPath);
     }
   }
 
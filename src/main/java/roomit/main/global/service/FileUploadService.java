@@ -17,6 +17,9 @@ public class FileUploadService {
 
     private final S3Presigner s3Presigner;
 
+    // presigned 업로드 URL 유효 시간
+    public static final Duration PRESIGN_DURATION = Duration.ofMinutes(10);
+
     @Value("${amazon.aws.bucket}")
     private String bucketName;
 
@@ -41,7 +44,7 @@ public class FileUploadService {
 
         PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
                 .putObjectRequest(putObjectRequest)
-                .signatureDuration(Duration.ofMinutes(10))
+                .signatureDuration(PRESIGN_DURATION)
                 .build();
 
         String url = s3Presigner.presignPutObject(presignRequest).url().toString();
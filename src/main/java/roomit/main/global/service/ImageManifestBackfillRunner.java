@@ -0,0 +1,46 @@
+package roomit.main.global.service;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 key 목록이 없는 기존 데이터를 채우는 1회성 작업
+ * image.manifest.backfill=true 로 기동할 때만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.manifest.backfill", havingValue = "true")
+public class ImageManifestBackfillRunner implements ApplicationRunner {
+
+    private final ImageManifestService imageManifestService;
+    private final FileLocationService fileLocationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 버킷은 한 번만 순회하고 DB 는 배치 단위로 갱신
+        Map<String, List<String>> imageKeysByFolder = fileLocationService.listAllImageKeysByFolder();
+        log.info("image manifest backfill - {} folders found in bucket", imageKeysByFolder.size());
+
+        int workplaceBatches = 0;
+        Long lastId = 0L;
+        while ((lastId = imageManifestService.backfillWorkplaces(imageKeysByFolder, lastId)) != null) {
+            workplaceBatches++;
+        }
+
+        int studyRoomBatches = 0;
+        lastId = 0L;
+        while ((lastId = imageManifestService.backfillStudyRooms(imageKeysByFolder, lastId)) != null) {
+            studyRoomBatches++;
+        }
+
+        log.info("image manifest backfill finished - workplace batches: {}, studyroom batches: {}",
+                workplaceBatches, studyRoomBatches);
+    }
+}
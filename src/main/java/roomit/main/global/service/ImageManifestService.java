@@ -0,0 +1,130 @@
+package roomit.main.global.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.domain.workplace.service.WorkplaceChangedEvent;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.inner.ImageUrl;
+
+/**
+ * 사업장/스터디룸 이미지 key 목록을 DB에 유지
+ * 조회 시 S3 목록 요청 없이 저장된 key 로 이미지 URL 을 만들기 위함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageManifestService {
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final WorkplaceRepository workplaceRepository;
+    private final StudyRoomRepository studyRoomRepository;
+    private final FileLocationService fileLocationService;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * presigned URL 로 업로드가 끝난 뒤 호출
+     * 요청한 사업자의 사업장/스터디룸 폴더 바로 아래에 실제로 올라간 이미지만 기록
+     * key 목록이 아직 없으면 S3 에서 폴더 전체를 한 번 읽어와 초기화
+     */
+    @Transactional
+    public void completeUpload(Long businessId, String fileName, String fileLocation) {
+        if (fileName == null || fileName.isBlank() || fileName.contains("/") || fileName.contains("..")
+                || fileLocation == null || fileLocation.isBlank() || fileLocation.contains("..")) {
+            throw ErrorCode.S3_IMAGE_INVALID_KEY.commonException();
+        }
+        String folder = fileLocation.endsWith("/") ? fileLocation.substring(0, fileLocation.length() - 1) : fileLocation;
+        String imageKey = folder + "/" + fileName;
+        if (!fileLocationService.isImageFile(imageKey)) {
+            throw ErrorCode.S3_IMAGE_INVALID_TYPE.commonException();
+        }
+
+        String folderUrl = imageService.createImageUrl(folder).getValue();
+
+        Optional<StudyRoom> studyRoom = studyRoomRepository.findByImageUrlValue(folderUrl);
+        Workplace workplace = studyRoom.map(StudyRoom::getWorkPlace)
+                .or(() -> workplaceRepository.findByImageUrlValue(folderUrl))
+                .orElseThrow(ErrorCode.S3_IMAGE_FOLDER_NOT_FOUND::commonException);
+        if (workplace.getBusiness() == null || !workplace.getBusiness().getBusinessId().equals(businessId)) {
+            throw ErrorCode.BUSINESS_NOT_AUTHORIZED.commonException();
+        }
+
+        if (!fileLocationService.exists(imageKey)) {
+            throw ErrorCode.S3_IMAGE_NOT_UPLOADED.commonException();
+        }
+
+        if (studyRoom.isPresent()) {
+            studyRoom.get().changeStudyRoomImageUrl(addImageKey(studyRoom.get().getImageUrl(), folder, imageKey));
+        } else {
+            workplace.changeImageUrl(addImageKey(workplace.getImageUrl(), folder, imageKey));
+            // 위치 인덱스의 대표 이미지 갱신
+            eventPublisher.publishEvent(WorkplaceChangedEvent.updated(workplace.getWorkplaceId()));
+        }
+
+        fileLocationService.evictImages(folder);
+    }
+
+    // 폴더 삭제 시 해당 폴더와 하위 폴더의 key 목록을 비움
+    @Transactional
+    public void clearFolder(String fileLocation) {
+        String folderUrl = imageService.createImageUrl(fileLocation).getValue();
+
+        workplaceRepository.findByImageUrlValue(folderUrl)
+                .ifPresent(workplace -> {
+                    workplace.changeImageUrl(workplace.getImageUrl().withImageKeys(List.of()));
+                    eventPublisher.publishEvent(WorkplaceChangedEvent.updated(workplace.getWorkplaceId()));
+                });
+        studyRoomRepository.findByImageUrlValue(folderUrl)
+                .ifPresent(studyRoom -> studyRoom.changeStudyRoomImageUrl(studyRoom.getImageUrl().withImageKeys(List.of())));
+        studyRoomRepository.findByImageUrlValueStartingWith(folderUrl + "/")
+                .forEach(studyRoom -> studyRoom.changeStudyRoomImageUrl(studyRoom.getImageUrl().withImageKeys(List.of())));
+    }
+
+    /**
+     * key 목록이 비어있는(null) 기존 데이터를 한 배치만큼 채움
+     * @return 처리한 마지막 id, 더 처리할 데이터가 없으면 null
+     */
+    @Transactional
+    public Long backfillWorkplaces(Map<String, List<String>> imageKeysByFolder, Long lastId) {
+        List<Workplace> workplaces = workplaceRepository.findWithoutImageManifest(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        for (Workplace workplace : workplaces) {
+            ImageUrl imageUrl = workplace.getImageUrl();
+            workplace.changeImageUrl(imageUrl.withImageKeys(findImageKeys(imageKeysByFolder, imageUrl)));
+        }
+        return workplaces.isEmpty() ? null : workplaces.get(workplaces.size() - 1).getWorkplaceId();
+    }
+
+    @Transactional
+    public Long backfillStudyRooms(Map<String, List<String>> imageKeysByFolder, Long lastId) {
+        List<StudyRoom> studyRooms = studyRoomRepository.findWithoutImageManifest(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        for (StudyRoom studyRoom : studyRooms) {
+            ImageUrl imageUrl = studyRoom.getImageUrl();
+            studyRoom.changeStudyRoomImageUrl(imageUrl.withImageKeys(findImageKeys(imageKeysByFolder, imageUrl)));
+        }
+        return studyRooms.isEmpty() ? null : studyRooms.get(studyRooms.size() - 1).getStudyRoomId();
+    }
+
+    private ImageUrl addImageKey(ImageUrl imageUrl, String fileLocation, String imageKey) {
+        if (!imageUrl.hasImageManifest()) {
+            // 방금 올린 파일도 S3 목록에 포함되어 있음
+            return imageUrl.withImageKeys(fileLocationService.listImageKeys(fileLocation));
+        }
+        return imageUrl.addImageKey(imageKey);
+    }
+
+    private List<String> findImageKeys(Map<String, List<String>> imageKeysByFolder, ImageUrl imageUrl) {
+        return imageKeysByFolder.getOrDefault(fileLocationService.toFolderPath(imageUrl.getValue()), List.of());
+    }
+}
@@ -0,0 +1,6 @@
+-- payments.confirm_requested_at 컬럼 (토스 승인 요청 시각)
+-- 승인 요청 중인 예약을 만료 스케줄러가 건너뛰도록 ReservationRepository.findStaleReservations 에서 사용
+-- 배포 전에 한 번 적용 (NULL 허용 컬럼 추가라 기존 행은 그대로 둠)
+
+ALTER TABLE payments
+    ADD COLUMN confirm_requested_at DATETIME(6) NULL;
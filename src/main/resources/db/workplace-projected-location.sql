@@ -0,0 +1,11 @@
+-- workplace.projected_location 컬럼과 SPATIAL 인덱스 (MySQL 8.0.13 이상)
+-- location 컬럼은 SRID 제한이 없어 MySQL 이 공간 인덱스를 사용할 수 없으므로 5181 좌표계로 변환한 STORED 생성 컬럼에 인덱스를 둠
+-- 애플리케이션은 스키마를 변경하지 않음: 배포 전에 DBA 가 한 번 적용하고, 적용 후 재시작하면 WorkplaceSpatialSchemaDetector 가 감지해 인덱스 쿼리로 전환
+-- ALTER 는 테이블을 다시 쓰므로(COPY) 트래픽이 적은 시간에 실행
+
+ALTER TABLE workplace
+    ADD COLUMN projected_location POINT SRID 5181
+        GENERATED ALWAYS AS (IF(ST_SRID(location) = 5181, location, ST_Transform(location, 5181))) STORED NOT NULL;
+
+ALTER TABLE workplace
+    ADD SPATIAL INDEX idx_workplace_projected_location (projected_location);
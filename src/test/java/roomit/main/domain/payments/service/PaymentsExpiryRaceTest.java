@@ -0,0 +1,157 @@
+package roomit.main.domain.payments.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpEntity;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+import roomit.main.domain.member.repository.MemberRepository;
+import roomit.main.domain.notification.repository.MemberNotificationRepository;
+import roomit.main.domain.notification.repository.NotificationRepository;
+import roomit.main.domain.notification.service.NotificationService;
+import roomit.main.domain.payments.Service.PaymentsService;
+import roomit.main.domain.payments.config.PaymentsConfig;
+import roomit.main.domain.payments.dto.request.PaymentsRequest;
+import roomit.main.domain.payments.dto.response.PaymentsResponse;
+import roomit.main.domain.payments.entity.Payments;
+import roomit.main.domain.payments.repository.PaymentsRepository;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+import roomit.main.global.service.FileLocationService;
+
+class PaymentsExpiryRaceTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final Long AMOUNT = 20000L;
+
+    private final PaymentsRepository paymentsRepository = mock(PaymentsRepository.class);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final MemberNotificationRepository memberNotificationRepository = mock(MemberNotificationRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final RestTemplate tossRestTemplate = mock(RestTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final PaymentsService paymentsService = new PaymentsService(paymentsRepository, reservationRepository,
+            mock(PaymentsConfig.class), mock(NotificationService.class), mock(MemberRepository.class),
+            mock(FileLocationService.class), notificationRepository, memberNotificationRepository, eventPublisher,
+            tossRestTemplate, transactionTemplate);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private Payments payments(Reservation requested) {
+        Payments payments = mock(Payments.class);
+        when(payments.getTotalAmount()).thenReturn(AMOUNT);
+        when(payments.getReservation()).thenReturn(requested);
+        when(paymentsRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(payments));
+        return payments;
+    }
+
+    @Test
+    @DisplayName("결제창을 연 사이 예약이 만료되면 토스 승인 전에 거절하고 예약을 되살리지 않는다")
+    void rejectPaymentAfterExpiry() {
+        // Given - 결제 요청 시점에는 ON_HOLD 였지만, 승인 콜백 전에 만료 스케줄러가 EXPIRED 로 바꿈
+        Reservation requested = mock(Reservation.class);
+        when(requested.getReservationId()).thenReturn(1L);
+        Payments payments = payments(requested);
+
+        Reservation expired = mock(Reservation.class);
+        when(expired.getReservationState()).thenReturn(ReservationState.EXPIRED);
+        when(reservationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(expired));
+
+        // When
+        CommonException exception = assertThrows(CommonException.class,
+                () -> paymentsService.tossPaymentSuccess("payment-key", ORDER_ID, AMOUNT));
+
+        // Then
+        assertEquals(ErrorCode.RESERVATION_EXPIRED, exception.getErrorCode());
+        verify(expired, never()).changeReservationState(any());
+        verify(payments, never()).markConfirmRequested(any(), any());
+        verify(payments, never()).changeTossPaymentsKey(any());
+        verify(notificationRepository, never()).save(any());
+        verify(memberNotificationRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(tossRestTemplate, never()).postForObject(any(String.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("토스 승인 중에 예약이 만료되면 승인된 결제를 취소하고 만료 오류로 응답한다")
+    void cancelApprovedPaymentWhenExpiredDuringConfirm() {
+        // Given - 선점 시에는 ON_HOLD, 승인 후 확정 시에는 EXPIRED
+        Reservation requested = mock(Reservation.class);
+        when(requested.getReservationId()).thenReturn(1L);
+        Payments payments = payments(requested);
+
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationState()).thenReturn(ReservationState.ON_HOLD, ReservationState.EXPIRED);
+        when(reservationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(reservation));
+        when(tossRestTemplate.postForObject(any(String.class), any(HttpEntity.class), eq(PaymentsResponse.class)))
+                .thenReturn(mock(PaymentsResponse.class));
+
+        // When
+        CommonException exception = assertThrows(CommonException.class,
+                () -> paymentsService.tossPaymentSuccess("payment-key", ORDER_ID, AMOUNT));
+
+        // Then - 승인 호출 전에 선점 트랜잭션이 끝났고, 승인 후 취소 요청을 보냄
+        assertEquals(ErrorCode.RESERVATION_EXPIRED, exception.getErrorCode());
+        verify(payments).markConfirmRequested(eq("payment-key"), any());
+        verify(payments).changeCancelYN(true);
+        verify(tossRestTemplate).postForObject(eq(PaymentsConfig.URL + "/payment-key/cancel"), any(HttpEntity.class),
+                eq(Map.class));
+        verify(reservation, never()).changeReservationState(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "PAYMENT_FAIL, RESERVATION_PAYMENT_FAILED",
+            "CANCELLED, RESERVATION_ALREADY_CANCELLED",
+            "ACTIVE, PAYMENTS_ALREADY_APPROVED",
+            "COMPLETED, RESERVATION_ALREADY_COMPLETED",
+            "EXPIRED, RESERVATION_EXPIRED"
+    })
+    @DisplayName("결제 요청 시 결제 대기가 아닌 예약은 상태별 오류로 거절한다")
+    void rejectPaymentRequestByState(ReservationState state, ErrorCode expected) {
+        // Given
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationState()).thenReturn(state);
+        when(reservationRepository.findFirstByIdAndMemberId(1L, 2L)).thenReturn(Optional.of(reservation));
+
+        // When
+        CommonException exception = assertThrows(CommonException.class,
+                () -> paymentsService.validateReservationForPayment(1L, 2L, mock(PaymentsRequest.class)));
+
+        // Then
+        assertEquals(expected, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,37 @@
+package roomit.main.domain.reservation.dto.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+
+class ReservationCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 위치로 복원된다")
+    void roundTrip() {
+        // Given
+        ReservationCursor cursor = new ReservationCursor(LocalDateTime.of(2024, 12, 20, 10, 0, 5), 42L);
+
+        // When
+        ReservationCursor decoded = ReservationCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 잘못된 커서는 RESERVATION_INVALID_CURSOR")
+    void firstAndInvalid() {
+        // When & Then
+        assertEquals(ReservationCursor.FIRST, ReservationCursor.decode(null));
+        assertEquals(ReservationCursor.FIRST, ReservationCursor.decode(" "));
+
+        CommonException exception = assertThrows(CommonException.class, () -> ReservationCursor.decode("not-a-cursor"));
+        assertEquals(ErrorCode.RESERVATION_INVALID_CURSOR, exception.getErrorCode());
+    }
+}
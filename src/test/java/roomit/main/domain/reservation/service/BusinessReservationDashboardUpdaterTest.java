@@ -0,0 +1,235 @@
+package roomit.main.domain.reservation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import roomit.main.domain.business.entity.Business;
+import roomit.main.domain.reservation.entity.BusinessReservationFeed;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.entity.value.ReservationName;
+import roomit.main.domain.reservation.entity.value.ReservationNum;
+import roomit.main.domain.reservation.repository.BusinessReservationDailyStatRepository;
+import roomit.main.domain.reservation.repository.BusinessReservationFeedRepository;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.studyroom.entity.value.StudyRoomName;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.entity.value.WorkplaceName;
+
+class BusinessReservationDashboardUpdaterTest {
+
+    private static final Long RESERVATION_ID = 1L;
+    private static final Long BUSINESS_ID = 7L;
+    private static final Long STUDYROOM_ID = 10L;
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 20);
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final BusinessReservationFeedRepository feedRepository = mock(BusinessReservationFeedRepository.class);
+    private final BusinessReservationDailyStatRepository statRepository = mock(BusinessReservationDailyStatRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private final BusinessReservationDashboardUpdater updater = new BusinessReservationDashboardUpdater(
+            reservationRepository, feedRepository, statRepository, mock(PlatformTransactionManager.class), redisTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(updater, "enabled", true);
+        ReflectionTestUtils.setField(updater, "reconcileLookbackMinutes", 30L);
+        when(feedRepository.save(any(BusinessReservationFeed.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static Reservation reservation(ReservationState state, LocalDateTime start, LocalDateTime end) {
+        Business business = mock(Business.class);
+        when(business.getBusinessId()).thenReturn(BUSINESS_ID);
+
+        Workplace workplace = mock(Workplace.class);
+        when(workplace.getWorkplaceId()).thenReturn(3L);
+        when(workplace.getWorkplaceName()).thenReturn(new WorkplaceName("강남점"));
+        when(workplace.getBusiness()).thenReturn(business);
+
+        StudyRoom studyRoom = mock(StudyRoom.class);
+        when(studyRoom.getStudyRoomId()).thenReturn(STUDYROOM_ID);
+        when(studyRoom.getStudyRoomName()).thenReturn(new StudyRoomName("A룸"));
+        when(studyRoom.getWorkPlace()).thenReturn(workplace);
+
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationId()).thenReturn(RESERVATION_ID);
+        when(reservation.getReservationName()).thenReturn(new ReservationName("홍길동"));
+        when(reservation.getReservationPhoneNumber()).thenReturn(new ReservationNum("010-1234-5678"));
+        when(reservation.getReservationState()).thenReturn(state);
+        when(reservation.getReservationCapacity()).thenReturn(4);
+        when(reservation.getReservationPrice()).thenReturn(20000);
+        when(reservation.getCreatedAt()).thenReturn(DATE.minusDays(1).atTime(9, 0));
+        when(reservation.getStartTime()).thenReturn(start);
+        when(reservation.getEndTime()).thenReturn(end);
+        when(reservation.getStudyRoom()).thenReturn(studyRoom);
+        return reservation;
+    }
+
+    private void givenFeed(ReservationState previous, ReservationState current) {
+        BusinessReservationFeed feed = BusinessReservationFeed.from(
+                reservation(previous, DATE.atTime(10, 0), DATE.atTime(12, 0)));
+        when(feedRepository.findByReservationId(RESERVATION_ID)).thenReturn(Optional.of(feed));
+        when(reservationRepository.findStateById(RESERVATION_ID)).thenReturn(Optional.of(current));
+    }
+
+    @Test
+    @DisplayName("처음 들어온 결제 대기 예약은 목록 행만 만들고 집계에는 더하지 않는다")
+    void createFeedWithoutStats() {
+        // Given
+        when(feedRepository.findByReservationId(RESERVATION_ID)).thenReturn(Optional.empty());
+        Reservation reservation = reservation(ReservationState.ON_HOLD, DATE.atTime(10, 0), DATE.atTime(12, 0));
+        when(reservationRepository.findWithWorkplaceById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+
+        // When
+        updater.apply(RESERVATION_ID);
+
+        // Then
+        ArgumentCaptor<BusinessReservationFeed> captor = ArgumentCaptor.forClass(BusinessReservationFeed.class);
+        verify(feedRepository).save(captor.capture());
+        assertEquals(BUSINESS_ID, captor.getValue().getBusinessId());
+        assertEquals("A룸", captor.getValue().getStudyRoomName());
+        verify(statRepository, never()).addStat(anyLong(), anyLong(), any(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제가 완료되면 예약 수, 매출, 이용 시간을 더한다")
+    void addStatsOnPayment() {
+        // Given
+        givenFeed(ReservationState.ON_HOLD, ReservationState.ACTIVE);
+
+        // When
+        updater.apply(RESERVATION_ID);
+
+        // Then
+        verify(statRepository).addStat(BUSINESS_ID, STUDYROOM_ID, DATE, 1, 20000L, 120);
+    }
+
+    @Test
+    @DisplayName("결제된 예약이 취소되면 더했던 집계를 뺀다")
+    void subtractStatsOnCancel() {
+        // Given
+        givenFeed(ReservationState.ACTIVE, ReservationState.CANCELLED);
+
+        // When
+        updater.apply(RESERVATION_ID);
+
+        // Then
+        verify(statRepository).addStat(BUSINESS_ID, STUDYROOM_ID, DATE, -1, -20000L, -120);
+    }
+
+    @Test
+    @DisplayName("이용 완료처럼 집계 대상 안에서의 상태 변경은 집계를 바꾸지 않는다")
+    void keepStatsOnComplete() {
+        // Given
+        givenFeed(ReservationState.ACTIVE, ReservationState.COMPLETED);
+
+        // When
+        updater.apply(RESERVATION_ID);
+
+        // Then
+        verify(statRepository, never()).addStat(anyLong(), anyLong(), any(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("대시보드를 다시 만드는 중에는 예약 변경 이벤트를 반영하지 않는다")
+    void skipWhileRebuilding() {
+        // Given
+        when(redisTemplate.hasKey(BusinessReservationDashboardUpdater.REBUILD_KEY)).thenReturn(true);
+
+        // When
+        updater.onReservationChanged(new ReservationChangedEvent(RESERVATION_ID, STUDYROOM_ID,
+                DATE.atTime(10, 0), DATE.atTime(12, 0), ReservationState.ACTIVE));
+
+        // Then
+        verify(feedRepository, never()).findByReservationId(anyLong());
+    }
+
+    @Test
+    @DisplayName("재구성 표시는 캐시 시간 동안 Redis 를 다시 조회하지 않는다")
+    void cacheRebuildFlag() {
+        // Given
+        ReflectionTestUtils.setField(updater, "rebuildFlagCacheMillis", 60_000L);
+        when(redisTemplate.hasKey(BusinessReservationDashboardUpdater.REBUILD_KEY)).thenReturn(true);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            updater.onReservationChanged(new ReservationChangedEvent(RESERVATION_ID, STUDYROOM_ID,
+                    DATE.atTime(10, 0), DATE.atTime(12, 0), ReservationState.ACTIVE));
+        }
+
+        // Then
+        assertTrue(updater.isRebuilding());
+        verify(redisTemplate, times(1)).hasKey(BusinessReservationDashboardUpdater.REBUILD_KEY);
+        verify(feedRepository, never()).findByReservationId(anyLong());
+    }
+
+    @Test
+    @DisplayName("이벤트가 유실되어 목록과 상태가 다른 최근 변경 예약을 주기적으로 다시 반영한다")
+    void reconcileMissedChange() {
+        // Given
+        givenFeed(ReservationState.ON_HOLD, ReservationState.ACTIVE);
+        when(reservationRepository.findIdsUpdatedSince(any())).thenReturn(List.of(RESERVATION_ID));
+
+        // When
+        updater.reconcile();
+
+        // Then
+        verify(statRepository).addStat(BUSINESS_ID, STUDYROOM_ID, DATE, 1, 20000L, 120);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 이미 다시 만드는 중이면 목록과 집계를 지우지 않는다")
+    void rebuildOnlyOnce() {
+        // Given
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(BusinessReservationDashboardUpdater.REBUILD_KEY), anyString(),
+                any(Duration.class))).thenReturn(false);
+
+        // When
+        int count = updater.rebuild();
+
+        // Then
+        assertEquals(0, count);
+        verify(statRepository, never()).deleteAllInBatch();
+        verify(feedRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 예약의 이용 시간은 날짜별로 나눈다")
+    void splitMinutesByDate() {
+        // When
+        Map<LocalDate, Integer> minutes = BusinessReservationDashboardUpdater.dailyMinutes(
+                DATE.atTime(23, 0), DATE.plusDays(1).atTime(1, 30));
+
+        // Then
+        assertEquals(Map.of(DATE, 60, DATE.plusDays(1), 90), minutes);
+    }
+}
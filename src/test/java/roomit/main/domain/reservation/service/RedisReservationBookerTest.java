@@ -0,0 +1,117 @@
+package roomit.main.domain.reservation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+
+class RedisReservationBookerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 20);
+    private static final List<String> KEYS = List.of("reservation:claim:{2}:2024-12-20T10:00");
+
+    private final ReservationSlotClaims reservationSlotClaims = mock(ReservationSlotClaims.class);
+    private final ReservationRegistrar reservationRegistrar = mock(ReservationRegistrar.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final RedisReservationBooker booker = new RedisReservationBooker(
+            reservationSlotClaims, reservationRegistrar, transactionTemplate);
+
+    private final CreateReservationRequest request = CreateReservationRequest.builder()
+            .reservationName("예약테스트")
+            .reservationPhoneNumber("010-1111-2222")
+            .capacity(4)
+            .price(2000)
+            .startTime(DATE.atTime(10, 0))
+            .endTime(DATE.atTime(10, 30))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(reservationSlotClaims.keys(2L, request.startTime(), request.endTime())).thenReturn(KEYS);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("선점에 성공하면 DB 에 저장하고 선점을 예약 ID 로 확정한다")
+    void claimAndConfirm() {
+        // Given
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationId()).thenReturn(5L);
+        when(reservationSlotClaims.claim(eq(KEYS), anyString())).thenReturn(true);
+        when(reservationRegistrar.register(1L, 2L, request)).thenReturn(reservation);
+
+        // When
+        Long reservationId = booker.book(1L, 2L, request);
+
+        // Then
+        assertEquals(5L, reservationId);
+        verify(reservationSlotClaims).confirm(eq(KEYS), anyString(), eq(5L));
+    }
+
+    @Test
+    @DisplayName("선점 충돌이면 DB 를 거치지 않고 DUPLICATE_RESERVATION 으로 거절한다")
+    void conflictWithoutDatabase() {
+        // Given
+        when(reservationSlotClaims.claim(eq(KEYS), anyString())).thenReturn(false);
+
+        // When
+        CommonException exception = assertThrows(CommonException.class, () -> booker.book(1L, 2L, request));
+
+        // Then
+        assertEquals(ErrorCode.DUPLICATE_RESERVATION, exception.getErrorCode());
+        verifyNoInteractions(reservationRegistrar, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("DB 저장이 실패하면 선점한 칸을 반납한다")
+    void releaseWhenDatabaseFails() {
+        // Given
+        when(reservationSlotClaims.claim(eq(KEYS), anyString())).thenReturn(true);
+        when(reservationRegistrar.register(1L, 2L, request)).thenThrow(ErrorCode.DUPLICATE_RESERVATION.commonException());
+
+        // When
+        assertThrows(CommonException.class, () -> booker.book(1L, 2L, request));
+
+        // Then
+        verify(reservationSlotClaims).releaseToken(eq(KEYS), anyString());
+        verify(reservationSlotClaims, never()).confirm(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 완료는 예약 종료까지 점유하고, 취소는 선점을 반납한다")
+    void followReservationState() {
+        // Given
+        LocalDateTime startTime = request.startTime();
+        LocalDateTime endTime = request.endTime();
+
+        // When
+        booker.onReservationChanged(new ReservationChangedEvent(5L, 2L, startTime, endTime, ReservationState.ACTIVE));
+        booker.onReservationChanged(new ReservationChangedEvent(6L, 2L, startTime, endTime, ReservationState.CANCELLED));
+
+        // Then
+        verify(reservationSlotClaims).assign(KEYS, 5L, endTime);
+        verify(reservationSlotClaims).release(KEYS, 6L);
+    }
+}
@@ -0,0 +1,55 @@
+package roomit.main.domain.reservation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReservationLockKeysTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 20);
+
+    @Test
+    @DisplayName("겹치는 서로 다른 구간은 같은 락 키를 공유한다")
+    void overlappingWindowsShareKey() {
+        // Given
+        List<String> first = ReservationLockKeys.roomDays(1L, DATE.atTime(10, 0), DATE.atTime(12, 0));
+        List<String> second = ReservationLockKeys.roomDays(1L, DATE.atTime(11, 0), DATE.atTime(13, 0));
+
+        // When & Then
+        assertEquals(List.of("reservation:1:2024-12-20"), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("다른 날짜나 다른 스터디룸의 예약은 서로 다른 락을 잡는다")
+    void unrelatedWindowsDoNotShareKey() {
+        // Given
+        List<String> today = ReservationLockKeys.roomDays(1L, DATE.atTime(10, 0), DATE.atTime(12, 0));
+        List<String> tomorrow = ReservationLockKeys.roomDays(1L, DATE.plusDays(1).atTime(10, 0),
+                DATE.plusDays(1).atTime(12, 0));
+        List<String> otherRoom = ReservationLockKeys.roomDays(2L, DATE.atTime(10, 0), DATE.atTime(12, 0));
+
+        // When & Then
+        assertTrue(Collections.disjoint(today, tomorrow));
+        assertTrue(Collections.disjoint(today, otherRoom));
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 구간은 걸친 날짜의 키를 모두 날짜순으로 반환하고, 자정에 끝나면 다음 날은 잡지 않는다")
+    void spanningMidnight() {
+        // Given
+        List<String> overnight = ReservationLockKeys.roomDays(1L, DATE.atTime(23, 0), DATE.plusDays(1).atTime(1, 0));
+        List<String> untilMidnight = ReservationLockKeys.roomDays(1L, DATE.atTime(22, 0), DATE.plusDays(1).atStartOfDay());
+
+        // When & Then
+        assertEquals(List.of("reservation:1:2024-12-20", "reservation:1:2024-12-21"), overnight);
+        assertEquals(List.of("reservation:1:2024-12-20"), untilMidnight);
+        assertFalse(untilMidnight.contains("reservation:1:2024-12-21"));
+    }
+}
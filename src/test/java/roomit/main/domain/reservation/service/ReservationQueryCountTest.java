@@ -0,0 +1,213 @@
+package roomit.main.domain.reservation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import roomit.main.domain.business.entity.Business;
+import roomit.main.domain.business.repository.BusinessRepository;
+import roomit.main.domain.member.entity.Member;
+import roomit.main.domain.member.entity.Sex;
+import roomit.main.domain.member.repository.MemberRepository;
+import roomit.main.domain.reservation.dto.response.MyWorkPlaceReservationResponse;
+import roomit.main.domain.reservation.dto.response.ReservationPageResponse;
+import roomit.main.domain.reservation.dto.response.ReservationResponse;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.inner.ImageUrl;
+import roomit.main.global.service.FileLocationService;
+import roomit.main.global.service.ImageService;
+import roomit.main.global.util.PointUtil;
+
+/**
+ * 예약 목록 응답이 예약 수와 관계없이 한 문장으로 조회되는지 Hibernate 통계로 확인
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ReservationQueryCountTest {
+
+    private static final int STUDY_ROOM_COUNT = 3;
+    private static final int RESERVATION_COUNT = 12;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private WorkplaceRepository workplaceRepository;
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private PointUtil pointUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private FileLocationService fileLocationService;
+
+    private Long memberId;
+    private Long businessId;
+
+    @BeforeEach
+    void setUp() {
+        when(fileLocationService.resolveThumbnailsByImageUrl(anyCollection())).thenReturn(Map.of());
+        when(fileLocationService.getThumbnail(any(ImageUrl.class))).thenReturn("thumbnail");
+
+        Business business = businessRepository.save(Business.builder()
+                .businessName("조회테스트사업자")
+                .businessEmail("querycount@gmail.com")
+                .businessPwd("Business1!")
+                .businessNum("122-64-05126")
+                .passwordEncoder(passwordEncoder)
+                .build());
+        businessId = business.getBusinessId();
+
+        Member member = memberRepository.save(Member.builder()
+                .birthDay(LocalDate.of(2000, 1, 1))
+                .memberSex(Sex.FEMALE)
+                .memberPwd("Business1!")
+                .memberEmail("querycount@naver.com")
+                .memberPhoneNumber("010-1323-2154")
+                .memberNickName("조회유저")
+                .passwordEncoder(passwordEncoder)
+                .build());
+        memberId = member.getMemberId();
+
+        LocalDateTime base = LocalDate.now().plusDays(3).atTime(9, 0);
+        for (int i = 0; i < STUDY_ROOM_COUNT; i++) {
+            Workplace workplace = workplaceRepository.save(Workplace.builder()
+                    .workplaceName("조회사업장" + i)
+                    .workplacePhoneNumber("02-1234-5678")
+                    .workplaceDescription("조회 수 검증용 사업장")
+                    .workplaceAddress("서울 중구 장충단로 247 굿모닝시티 8층")
+                    .imageUrl(imageService.createImageUrl("Workplace" + i))
+                    .workplaceStartTime(LocalTime.of(0, 0))
+                    .workplaceEndTime(LocalTime.of(0, 0))
+                    .location(pointUtil.createPoint(127.0, 37.5))
+                    .business(business)
+                    .build());
+
+            StudyRoom studyRoom = studyRoomRepository.save(StudyRoom.builder()
+                    .studyRoomName("Room" + i)
+                    .description("조회 수 검증용 스터디룸")
+                    .capacity(10)
+                    .price(1000)
+                    .workplace(workplace)
+                    .build());
+
+            for (int j = 0; j < RESERVATION_COUNT / STUDY_ROOM_COUNT; j++) {
+                LocalDateTime startTime = base.plusDays(j).plusHours(i);
+                reservationRepository.save(Reservation.builder()
+                        .reservationName("예약테스트")
+                        .reservationPhoneNumber("010-1111-2222")
+                        .reservationState(ReservationState.ACTIVE)
+                        .reservationCapacity(4)
+                        .reservationPrice(2000)
+                        .startTime(startTime)
+                        .endTime(startTime.plusHours(1))
+                        .member(member)
+                        .studyRoom(studyRoom)
+                        .build());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        studyRoomRepository.deleteAll();
+        workplaceRepository.deleteAll();
+        businessRepository.deleteById(businessId);
+        memberRepository.deleteById(memberId);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("나의 예약 목록은 페이지 크기와 관계없이 한 번의 쿼리로 조회된다")
+    void memberReservationsInOneStatement() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        ReservationPageResponse<ReservationResponse> page =
+                reservationService.findReservationsByMemberId(memberId, null, RESERVATION_COUNT);
+
+        // Then
+        assertEquals(RESERVATION_COUNT, page.reservations().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("사업장 예약자 목록은 한 번의 쿼리로 조회된다")
+    void businessReservationsInOneStatement() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        ReservationPageResponse<MyWorkPlaceReservationResponse> page =
+                reservationService.findReservationByWorkplaceId(businessId, null, RESERVATION_COUNT);
+
+        // Then
+        assertEquals(RESERVATION_COUNT, page.reservations().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("가장 최근 예약 조회는 한 번의 쿼리로 조회된다")
+    void latestReservationInOneStatement() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        ReservationResponse response = reservationService.findByMemberId(memberId);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,148 @@
+package roomit.main.domain.reservation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+
+class ReservationSchedulerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 20);
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final ReservationScheduler scheduler = new ReservationScheduler(
+            reservationRepository, transactionTemplate, eventPublisher);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "expireMinutes", 15L);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(scheduler, "paymentGraceMinutes", 15L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static Reservation reservation(long id) {
+        StudyRoom studyRoom = mock(StudyRoom.class);
+        when(studyRoom.getStudyRoomId()).thenReturn(10L);
+
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationId()).thenReturn(id);
+        when(reservation.getStudyRoom()).thenReturn(studyRoom);
+        when(reservation.getStartTime()).thenReturn(DATE.atTime(10, 0));
+        when(reservation.getEndTime()).thenReturn(DATE.atTime(12, 0));
+        return reservation;
+    }
+
+    private static List<Reservation> reservations(long from, long to) {
+        return LongStream.rangeClosed(from, to).mapToObj(ReservationSchedulerTest::reservation).toList();
+    }
+
+    @Test
+    @DisplayName("결제 대기 시간이 지난 예약을 배치 단위로 만료시키고 변경 이벤트를 발행한다")
+    void expireInBatches() {
+        // Given - 배치 크기 2, 만료 대상 3건
+        List<Reservation> firstBatch = reservations(1, 2);
+        List<Reservation> secondBatch = reservations(3, 3);
+        when(reservationRepository.findStaleReservations(eq(ReservationState.ON_HOLD), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(firstBatch, secondBatch);
+        when(reservationRepository.changeReservationStates(anyList(), eq(ReservationState.ON_HOLD),
+                eq(ReservationState.EXPIRED), any(LocalDateTime.class)))
+                .thenReturn(2, 1);
+
+        // When
+        scheduler.expireOnHoldReservations();
+
+        // Then
+        verify(reservationRepository).changeReservationStates(eq(List.of(1L, 2L)), eq(ReservationState.ON_HOLD),
+                eq(ReservationState.EXPIRED), any(LocalDateTime.class));
+        verify(reservationRepository).changeReservationStates(eq(List.of(3L)), eq(ReservationState.ON_HOLD),
+                eq(ReservationState.EXPIRED), any(LocalDateTime.class));
+
+        ArgumentCaptor<ReservationChangedEvent> events = ArgumentCaptor.forClass(ReservationChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertEquals(List.of(1L, 2L, 3L), events.getAllValues().stream().map(ReservationChangedEvent::reservationId).toList());
+        assertEquals(ReservationState.EXPIRED, events.getValue().reservationState());
+        assertEquals(10L, events.getValue().studyRoomId());
+    }
+
+    @Test
+    @DisplayName("만료 대상이 없으면 UPDATE 를 실행하지 않는다")
+    void nothingToExpire() {
+        // Given
+        when(reservationRepository.findStaleReservations(any(), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        scheduler.expireOnHoldReservations();
+
+        // Then
+        verify(reservationRepository, never()).changeReservationStates(any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("결제 유예 시간 안에 결제창을 연 예약은 만료 대상에서 빠지도록 결제 기준 시각을 함께 넘긴다")
+    void passPaymentGraceCutoff() {
+        // Given - 결제 대기 15분, 결제 유예 30분
+        ReflectionTestUtils.setField(scheduler, "paymentGraceMinutes", 30L);
+        when(reservationRepository.findStaleReservations(any(), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        scheduler.expireOnHoldReservations();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> paymentCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reservationRepository).findStaleReservations(eq(ReservationState.ON_HOLD), cutoff.capture(),
+                paymentCutoff.capture(), any(Pageable.class));
+        assertEquals(cutoff.getValue().minusMinutes(15), paymentCutoff.getValue());
+    }
+
+    @Test
+    @DisplayName("이용 시간이 끝난 ACTIVE 예약만 COMPLETED 로 바꾸고 변경 이벤트를 발행한다")
+    void completeEndedReservations() {
+        // Given
+        Reservation ended = reservation(1L);
+        when(reservationRepository.findByReservationStateAndEndTimeBefore(eq(ReservationState.ACTIVE),
+                any(LocalDateTime.class))).thenReturn(List.of(ended));
+
+        // When
+        scheduler.updateReservationStatus();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> endedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reservationRepository).findByReservationStateAndEndTimeBefore(eq(ReservationState.ACTIVE),
+                endedBefore.capture());
+        assertTrue(!endedBefore.getValue().isAfter(LocalDateTime.now()));
+        verify(ended).changeReservationState(ReservationState.COMPLETED);
+        verify(eventPublisher).publishEvent(any(ReservationChangedEvent.class));
+    }
+}
@@ -0,0 +1,108 @@
+package roomit.main.domain.reservation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.entity.ReservationState;
+import roomit.main.domain.reservation.repository.ReservationSlotRepository;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+
+class SlotReservationBookerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 20);
+
+    private final ReservationRegistrar reservationRegistrar = mock(ReservationRegistrar.class);
+    private final ReservationSlotRepository reservationSlotRepository = mock(ReservationSlotRepository.class);
+
+    private final SlotReservationBooker booker = new SlotReservationBooker(reservationRegistrar, reservationSlotRepository);
+
+    private static CreateReservationRequest request(LocalDateTime startTime, LocalDateTime endTime) {
+        return CreateReservationRequest.builder()
+                .reservationName("예약테스트")
+                .reservationPhoneNumber("010-1111-2222")
+                .capacity(4)
+                .price(2000)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+
+    @Test
+    @DisplayName("예약 구간이 걸친 30분 칸을 모두 저장한다")
+    void insertsCoveringSlots() {
+        // Given
+        CreateReservationRequest request = request(DATE.atTime(10, 15), DATE.atTime(11, 30));
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationId()).thenReturn(5L);
+        when(reservationRegistrar.register(1L, 2L, request)).thenReturn(reservation);
+
+        // When
+        Long reservationId = booker.book(1L, 2L, request);
+
+        // Then
+        assertEquals(5L, reservationId);
+        verify(reservationSlotRepository).insertSlots(5L, 2L,
+                List.of(DATE.atTime(10, 0), DATE.atTime(10, 30), DATE.atTime(11, 0)));
+    }
+
+    @Test
+    @DisplayName("이미 차지된 칸이 있으면 DUPLICATE_RESERVATION 으로 실패한다")
+    void duplicateSlot() {
+        // Given
+        CreateReservationRequest request = request(DATE.atTime(10, 0), DATE.atTime(12, 0));
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getReservationId()).thenReturn(5L);
+        when(reservationRegistrar.register(any(), any(), any())).thenReturn(reservation);
+        doThrow(new DuplicateKeyException("Duplicate entry"))
+                .when(reservationSlotRepository).insertSlots(anyLong(), anyLong(), anyList());
+
+        // When
+        CommonException exception = assertThrows(CommonException.class, () -> booker.book(1L, 2L, request));
+
+        // Then
+        assertEquals(ErrorCode.DUPLICATE_RESERVATION, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("취소/결제 실패된 예약의 칸만 반납한다")
+    void releaseOnCancel() {
+        // Given
+        LocalDateTime startTime = DATE.atTime(10, 0);
+        LocalDateTime endTime = DATE.atTime(12, 0);
+
+        // When
+        booker.onReservationChanged(new ReservationChangedEvent(5L, 2L, startTime, endTime, ReservationState.CANCELLED));
+        booker.onReservationChanged(new ReservationChangedEvent(6L, 2L, startTime, endTime, ReservationState.ACTIVE));
+
+        // Then
+        verify(reservationSlotRepository).deleteByReservationId(5L);
+        verify(reservationSlotRepository, never()).deleteByReservationId(6L);
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 예약은 다음 날 칸까지 포함한다")
+    void slotsAcrossMidnight() {
+        // When
+        List<LocalDateTime> slots = ReservationSlots.starts(DATE.atTime(23, 30), DATE.plusDays(1).atTime(0, 45));
+
+        // Then
+        assertEquals(List.of(DATE.atTime(23, 30), DATE.plusDays(1).atTime(0, 0), DATE.plusDays(1).atTime(0, 30)), slots);
+    }
+}
@@ -0,0 +1,74 @@
+package roomit.main.domain.studyroom.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomit.main.domain.studyroom.service.DailySlotMask.SlotRange;
+
+class DailySlotMaskTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 20);
+
+    @Test
+    @DisplayName("운영 시간에서 예약된 슬롯을 뺀 연속 시간대를 반환한다")
+    void freeRanges() {
+        // Given
+        long operating = DailySlotMask.operatingHours(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        long reserved = DailySlotMask.occupied(DATE, DATE.atTime(10, 0), DATE.atTime(12, 0))
+                | DailySlotMask.occupied(DATE, DATE.atTime(15, 30), DATE.atTime(16, 0));
+
+        // When
+        List<SlotRange> ranges = DailySlotMask.ranges(operating & ~reserved);
+
+        // Then
+        assertEquals(List.of(
+                new SlotRange(9 * 60, 10 * 60),
+                new SlotRange(12 * 60, 15 * 60 + 30),
+                new SlotRange(16 * 60, 18 * 60)), ranges);
+        assertEquals("15:30", ranges.get(1).endTime());
+    }
+
+    @Test
+    @DisplayName("예약은 걸친 슬롯 전체를, 운영 시간은 완전히 포함된 슬롯만 차지한다")
+    void rounding() {
+        assertEquals(DailySlotMask.covering(600, 660), DailySlotMask.occupied(DATE,
+                DATE.atTime(10, 10), DATE.atTime(10, 40)));
+        assertEquals(DailySlotMask.covering(570, 600), DailySlotMask.operatingHours(
+                LocalTime.of(9, 15), LocalTime.of(10, 20)));
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 예약과 자정 마감은 하루 범위로 잘라서 계산한다")
+    void midnight() {
+        // Given
+        LocalDateTime start = DATE.atTime(23, 0);
+        LocalDateTime end = DATE.plusDays(1).atTime(1, 0);
+
+        // When, Then
+        assertEquals(List.of(new SlotRange(23 * 60, 24 * 60)),
+                DailySlotMask.ranges(DailySlotMask.occupied(DATE, start, end)));
+        assertEquals(List.of(new SlotRange(0, 60)),
+                DailySlotMask.ranges(DailySlotMask.occupied(DATE.plusDays(1), start, end)));
+        assertEquals("24:00", DailySlotMask.ranges(
+                DailySlotMask.operatingHours(LocalTime.of(22, 0), LocalTime.MIDNIGHT)).get(0).endTime());
+    }
+
+    @Test
+    @DisplayName("요청한 시간대의 모든 슬롯이 비어 있어야 예약 가능하다")
+    void isFree() {
+        // Given
+        long free = DailySlotMask.within(9 * 60, 12 * 60);
+
+        // When, Then
+        assertTrue(DailySlotMask.isFree(free, DailySlotMask.covering(9 * 60, 11 * 60)));
+        assertFalse(DailySlotMask.isFree(free, DailySlotMask.covering(11 * 60, 13 * 60)));
+        assertFalse(DailySlotMask.isFree(free, 0L));
+    }
+}
@@ -1,260 +1,202 @@
-//package roomit.main.domain.test;
-//
-//import jakarta.transaction.Transactional;
-//import org.junit.jupiter.api.DisplayName;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.TestInstance;
-//import org.springframework.beans.factory.annotation.Autowired;
-//import org.springframework.boot.test.context.SpringBootTest;
-//import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-//import org.springframework.test.context.ActiveProfiles;
-//import roomit.main.domain.business.dto.request.BusinessRegisterRequest;
-//import roomit.main.domain.business.entity.Business;
-//import roomit.main.domain.business.repository.BusinessRepository;
-//import roomit.main.domain.business.service.BusinessService;
-//import roomit.main.domain.member.entity.Member;
-//import roomit.main.domain.member.entity.Sex;
-//import roomit.main.domain.member.repository.MemberRepository;
-//import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
-//import roomit.main.domain.reservation.entity.Reservation;
-//import roomit.main.domain.reservation.repository.ReservationRepository;
-//import roomit.main.domain.reservation.service.ReservationService;
-//import roomit.main.domain.studyroom.entity.StudyRoom;
-//import roomit.main.domain.studyroom.repository.StudyRoomRepository;
-//import roomit.main.domain.workplace.entity.Workplace;
-//import roomit.main.domain.workplace.repository.WorkplaceRepository;
-//import roomit.main.global.error.ErrorCode;
-//import roomit.main.global.service.ImageService;
-//
-//import java.time.LocalDate;
-//import java.time.LocalDateTime;
-//import java.time.LocalTime;
-//import java.util.NoSuchElementException;
-//import java.util.concurrent.CountDownLatch;
-//import java.util.concurrent.ExecutorService;
-//import java.util.concurrent.Executors;
-//import java.util.stream.IntStream;
-//
-//import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-//
-//@SpringBootTest
-//@ActiveProfiles("test")
-//@TestInstance(TestInstance.Lifecycle.PER_CLASS)
-//@Transactional
-//public class ReservationLockTest {
-//
-//    @Autowired
-//    private BusinessService businessService;
-//
-//    @Autowired
-//    private BusinessRepository businessRepository;
-//
-//    @Autowired
-//    private BCryptPasswordEncoder passwordEncoder;
-//
-//    @Autowired
-//    private MemberRepository memberRepository;
-//
-//    @Autowired
-//    private WorkplaceRepository workplaceRepository;
-//
-//    @Autowired
-//    private StudyRoomRepository studyRoomRepository;
-//
-//    @Autowired
-//    private ImageService imageService;
-//
-//    @Autowired
-//    private ReservationService reservationService;
-//
-//    @Autowired
-//    private ReservationRepository reservationRepository;
-//
-//    @Test
-//    @DisplayName("분산락 x")
-//    void test() throws InterruptedException {
-//        LocalDate date = LocalDate.of(2024, 11, 22);
-//
-//        BusinessRegisterRequest businessRegisterRequest = BusinessRegisterRequest.builder()
-//                            .businessName("테스트사업자테스트" )
-//                            .businessEmail("business8543@gmail.com")
-//                            .businessPwd("Business1!")
-//                            .businessNum("122-64-05126")
-//                            .build();
-//
-//                    businessService.signUpBusiness(businessRegisterRequest); // 데이터 생성
-//            Business business = businessRepository.findByBusinessEmail("business8543@gmail.com").orElseThrow(NoSuchElementException::new);
-//
-//        Workplace workplace = Workplace.builder()
-//                .workplaceName("Workplace")
-//                .workplacePhoneNumber("0507-1234-5678")
-//                .workplaceDescription("사업장 설명")
-//                .workplaceAddress("서울 중구 장충단로 247 굿모닝시티 8층")
-//                .imageUrl(imageService.createImageUrl("Workplace"))
-//                .workplaceStartTime(LocalTime.of(9, 0))
-//                .workplaceEndTime(LocalTime.of(18, 0))
-//                .business(business)
-//                .build();
-//        workplaceRepository.save(workplace);
-//
-//        StudyRoom studyRoom = StudyRoom.builder()
-//                .studyRoomName("Test Room")
-//                .description("A test room")
-//                .capacity(10)
-//                .price(100)
-//                .imageUrl(imageService.createImageUrl("Workplace/Test Room"))
-//                .workplace(workplace)
-//                .build();
-//
-//        studyRoomRepository.save(studyRoom);
-//
-//        IntStream.rangeClosed(0, 9).forEach(i -> {
-//            Member member =  Member.builder()
-//                    .birthDay(date)
-//                    .memberSex(Sex.FEMALE)
-//                    .memberPwd("Business1!")
-//                    .memberEmail("wfqdfqwfa"+i+"@naver.com")
-//                    .memberPhoneNumber("010-1323-2154")
-//                    .memberNickName("치킨유저")
-//                    .passwordEncoder(passwordEncoder)
-//                    .build();
-//
-//            memberRepository.save(member);
-//                }
-//        );
-//        String code = "reservationTest";
-//        Long studyRoomId = studyRoom.getStudyRoomId();
-//
-//        int numberOfThreads = 10;
-//        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
-//        CountDownLatch latch = new CountDownLatch(numberOfThreads);
-//
-//        CreateReservationRequest request = CreateReservationRequest.builder()
-//                .reservationName("예약테스트")
-//                .reservationPhoneNumber("010-1111-2222")
-//                .capacity(4)
-//                .price(50000)
-//                .startTime(LocalDateTime.now())
-//                .endTime(LocalDateTime.now().plusHours(2))
-//                .build();
-//        System.out.println(studyRoomId);
-//        System.out.println(request);
-//
-//        for (int i = 0; i < numberOfThreads; i++) {
-//            Long memberId = memberRepository.findByMemberEmail("wfqdfqwfa" + i + "@naver.com").orElseThrow().getMemberId();
-//            System.out.println(memberId);
-//            executorService.submit(() -> {
-//                try {
-//                    reservationService.createTestLockFalse(memberId,studyRoomId,request);
-//                } catch (Exception e) {
-//                    System.out.println(e.getMessage());
-//                } finally {
-//                    latch.countDown();
-//                }
-//            });
-//        }
-//
-//        latch.await();
-//
-//        Long totalCount = reservationRepository.count();
-//
-//        System.out.println("등록된 예약 = " + totalCount);
-//        assertThat(totalCount).isOne();
-//
-//    }
-//
-//    @Test
-//    @DisplayName("분산락 o")
-//    void test2() throws InterruptedException {
-//        LocalDate date = LocalDate.of(2024, 11, 22);
-//
-//        BusinessRegisterRequest businessRegisterRequest = BusinessRegisterRequest.builder()
-//                .businessName("테스트테스트사업자" )
-//                .businessEmail("business1732@gmail.com")
-//                .businessPwd("Business1!")
-//                .businessNum("643-26-95312")
-//                .build();
-//
-//        businessService.signUpBusiness(businessRegisterRequest); // 데이터 생성
-//        Business business = businessRepository.findByBusinessEmail("business1732@gmail.com").orElseThrow(NoSuchElementException::new);
-//
-//        Workplace workplace = Workplace.builder()
-//                .workplaceName("Workplace")
-//                .workplacePhoneNumber("0507-1234-5678")
-//                .workplaceDescription("사업장 설명")
-//                .workplaceAddress("서울 중구 장충단로 247 굿모닝시티 8층")
-//                .imageUrl(imageService.createImageUrl("Workplace"))
-//                .workplaceStartTime(LocalTime.of(9, 0))
-//                .workplaceEndTime(LocalTime.of(18, 0))
-//                .business(business)
-//                .build();
-//        workplaceRepository.save(workplace);
-//
-//        StudyRoom studyRoom = StudyRoom.builder()
-//                .studyRoomName("Test Room")
-//                .description("A test room")
-//                .capacity(10)
-//                .price(100)
-//                .imageUrl(imageService.createImageUrl("Workplace/Test Room"))
-//                .workplace(workplace)
-//                .build();
-//
-//        studyRoomRepository.save(studyRoom);
-//
-//        IntStream.rangeClosed(0, 9).forEach(i -> {
-//                    Member member =  Member.builder()
-//                            .birthDay(date)
-//                            .memberSex(Sex.FEMALE)
-//                            .memberPwd("Business1!")
-//                            .memberEmail("wfqdfqwf"+i+"@naver.com")
-//                            .memberPhoneNumber("010-1323-2154")
-//                            .memberNickName("치킨유저")
-//                            .passwordEncoder(passwordEncoder)
-//                            .build();
-//
-//                    memberRepository.save(member);
-//                }
-//        );
-//        String code = "reservationTest";
-//        Long studyRoomId = studyRoom.getStudyRoomId();
-//
-//        int numberOfThreads = 10;
-//        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
-//        CountDownLatch latch = new CountDownLatch(numberOfThreads);
-//
-//        CreateReservationRequest request = CreateReservationRequest.builder()
-//                .reservationName("예약테스트")
-//                .reservationPhoneNumber("010-1111-2222")
-//                .capacity(4)
-//                .price(50000)
-//                .startTime(LocalDateTime.now())
-//                .endTime(LocalDateTime.now().plusHours(2))
-//                .build();
-//        System.out.println(studyRoomId);
-//        System.out.println(request);
-//
-//        String lockName = "예약 등록 키";
-//
-//        for (int i = 0; i < numberOfThreads; i++) {
-//            Long memberId = memberRepository.findByMemberEmail("wfqdfqwf" + i + "@naver.com").orElseThrow().getMemberId();
-//            System.out.println(memberId);
-//            executorService.submit(() -> {
-//                try {
-//                    reservationService.createTestLockSuccess(lockName,memberId,studyRoomId,request);
-//                } catch (Exception e) {
-//                    System.out.println(e.getMessage());
-//                } finally {
-//                    latch.countDown();
-//                }
-//            });
-//        }
-//
-//        latch.await();
-//
-//        Long totalCount = reservationRepository.count();
-//
-//        System.out.println("등록된 예약 = " + totalCount);
-//        assertThat(totalCount).isOne();
-//    }
-//
-//}
+package roomit.main.domain.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import roomit.main.domain.member.entity.Member;
+import roomit.main.domain.member.entity.Sex;
+import roomit.main.domain.member.repository.MemberRepository;
+import roomit.main.domain.reservation.dto.request.CreateReservationRequest;
+import roomit.main.domain.reservation.entity.Reservation;
+import roomit.main.domain.reservation.repository.ReservationRepository;
+import roomit.main.domain.reservation.service.ReservationService;
+import roomit.main.domain.studyroom.entity.StudyRoom;
+import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReservationLockTest {
+
+    private static final int THREAD_COUNT = 10;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private WorkplaceRepository workplaceRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final List<Long> memberIds = new ArrayList<>();
+    private Long studyRoomId;
+    private Long otherStudyRoomId;
+
+    @BeforeEach
+    void setUp() {
+        Workplace workplace = workplaceRepository.save(Workplace.builder()
+                .workplaceName("락테스트사업장")
+                .workplacePhoneNumber("02-1234-5678")
+                .workplaceDescription("동시 예약 검증용 사업장")
+                .workplaceAddress("서울 중구 장충단로 247 굿모닝시티 8층")
+                .workplaceStartTime(LocalTime.of(0, 0))
+                .workplaceEndTime(LocalTime.of(0, 0))
+                .build());
+
+        studyRoomId = studyRoomRepository.save(StudyRoom.builder()
+                .studyRoomName("RoomA")
+                .description("동시 예약 검증용 스터디룸")
+                .capacity(10)
+                .price(1000)
+                .workplace(workplace)
+                .build()).getStudyRoomId();
+        otherStudyRoomId = studyRoomRepository.save(StudyRoom.builder()
+                .studyRoomName("RoomB")
+                .description("동시 예약 검증용 스터디룸")
+                .capacity(10)
+                .price(1000)
+                .workplace(workplace)
+                .build()).getStudyRoomId();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            memberIds.add(memberRepository.save(Member.builder()
+                    .birthDay(LocalDate.of(2000, 1, 1))
+                    .memberSex(Sex.FEMALE)
+                    .memberPwd("Business1!")
+                    .memberEmail("locktest" + i + "@naver.com")
+                    .memberPhoneNumber("010-1323-2154")
+                    .memberNickName("락유저" + i)
+                    .passwordEncoder(passwordEncoder)
+                    .build()).getMemberId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        studyRoomRepository.deleteAll();
+        workplaceRepository.deleteAll();
+        memberRepository.deleteAllById(memberIds);
+        memberIds.clear();
+    }
+
+    @Test
+    @DisplayName("서로 다르지만 겹치는 시간대로 동시에 예약하면 하나만 성공한다")
+    void overlappingWindows() throws InterruptedException {
+        // Given - 10:00~12:00, 10:10~12:10 ... 11:30~13:30 은 모두 서로 겹친다
+        LocalDateTime base = LocalDate.now().plusDays(3).atTime(10, 0);
+        List<CreateReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            LocalDateTime startTime = base.plusMinutes(10L * i);
+            requests.add(request(startTime, startTime.plusHours(2)));
+        }
+
+        // When
+        ConcurrentLinkedQueue<ErrorCode> failures = runConcurrently(i -> studyRoomId, requests);
+
+        // Then
+        List<Reservation> reservations = reservationRepository.findAll();
+        assertEquals(1, reservations.size());
+        assertEquals(THREAD_COUNT - 1, failures.size());
+        assertTrue(failures.stream().allMatch(errorCode -> errorCode == ErrorCode.DUPLICATE_RESERVATION
+                || errorCode == ErrorCode.LOCK_ACQUISITION_FAILED));
+    }
+
+    @Test
+    @DisplayName("다른 날짜나 다른 스터디룸의 예약은 서로 막지 않는다")
+    void unrelatedWindows() throws InterruptedException {
+        // Given - 짝수는 스터디룸 A 의 서로 다른 날짜, 홀수는 스터디룸 B 의 서로 다른 날짜
+        LocalDateTime base = LocalDate.now().plusDays(3).atTime(10, 0);
+        List<CreateReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            LocalDateTime startTime = base.plusDays(i / 2);
+            requests.add(request(startTime, startTime.plusHours(2)));
+        }
+
+        // When
+        ConcurrentLinkedQueue<ErrorCode> failures = runConcurrently(
+                i -> i % 2 == 0 ? studyRoomId : otherStudyRoomId, requests);
+
+        // Then
+        assertTrue(failures.isEmpty());
+        assertEquals(THREAD_COUNT, reservationRepository.count());
+    }
+
+    private ConcurrentLinkedQueue<ErrorCode> runConcurrently(IntFunction<Long> studyRoomOf,
+            List<CreateReservationRequest> requests) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        ConcurrentLinkedQueue<ErrorCode> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    reservationService.createReservation(memberIds.get(index), studyRoomOf.apply(index),
+                            requests.get(index));
+                } catch (CommonException e) {
+                    failures.add(e.getErrorCode());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return failures;
+    }
+
+    private CreateReservationRequest request(LocalDateTime startTime, LocalDateTime endTime) {
+        return CreateReservationRequest.builder()
+                .reservationName("예약테스트")
+                .reservationPhoneNumber("010-1111-2222")
+                .capacity(4)
+                .price(2000)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+}
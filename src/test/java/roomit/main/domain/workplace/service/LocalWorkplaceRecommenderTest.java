@@ -0,0 +1,92 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.domain.workplace.service.WorkplaceRecommender.Recommendation;
+import roomit.main.global.exception.CommonException;
+
+/**
+ * parity-fixture.json 은 20대 모델로 app.py /recommend 와 같은 방식(surprise predict + 하이브리드 점수)으로 계산한 결과
+ * factors_20s.json 은 그 모델에서 fixture 에 나오는 회원만 남긴 테스트용 축소본
+ */
+class LocalWorkplaceRecommenderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode fixture;
+    private LocalWorkplaceRecommender recommender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fixture = readJson("recommendation/parity-fixture.json");
+
+        CollaborativeModel model;
+        try (InputStream inputStream = resource("recommendation/factors_"
+                + fixture.get("ageGroup").asInt() + "s.json")) {
+            model = CollaborativeModel.load(inputStream, objectMapper);
+        }
+
+        List<WorkplaceSpatialIndex.Entry> entries = new ArrayList<>();
+        for (JsonNode workplace : fixture.get("workplaces")) {
+            entries.add(new WorkplaceSpatialIndex.Entry(workplace.get("workplaceId").asLong(), "사업장", "주소",
+                    null, List.of(), workplace.get("starSum").asLong(), workplace.get("reviewCount").asLong(),
+                    127.0, 37.5));
+        }
+        WorkplaceSpatialIndex index = new WorkplaceSpatialIndex();
+        index.beginLoad();
+        index.completeLoad(entries);
+
+        recommender = new LocalWorkplaceRecommender(Map.of(model.getAgeGroup(), model), index,
+                mock(WorkplaceRepository.class));
+    }
+
+    @Test
+    @DisplayName("Python 추천 서버와 같은 순서와 점수로 추천한다")
+    void sameAsPythonScoring() {
+        for (JsonNode testCase : fixture.get("cases")) {
+            // When
+            List<Recommendation> recommendations = recommender.recommend(
+                    testCase.get("memberId").asLong(), testCase.get("age").asInt(), testCase.get("n").asInt());
+
+            // Then
+            JsonNode expected = testCase.get("expected");
+            assertEquals(expected.size(), recommendations.size());
+            for (int i = 0; i < expected.size(); i++) {
+                String message = "memberId=" + testCase.get("memberId").asLong() + ", rank=" + i;
+                assertEquals(expected.get(i).get("workplaceId").asLong(), recommendations.get(i).workplaceId(), message);
+                assertEquals(expected.get(i).get("finalScore").asDouble(), recommendations.get(i).finalScore(), message);
+                assertEquals(expected.get(i).get("predictedRating").asDouble(),
+                        recommendations.get(i).predictedRating(), 1e-5, message);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("연령대 모델이 없으면 추천에 실패한다")
+    void missingAgeGroup() {
+        assertThrows(CommonException.class, () -> recommender.recommend(1L, 45, 5));
+    }
+
+    private JsonNode readJson(String path) throws IOException {
+        try (InputStream inputStream = resource(path)) {
+            return objectMapper.readTree(inputStream);
+        }
+    }
+
+    private InputStream resource(String path) {
+        return getClass().getClassLoader().getResourceAsStream(path);
+    }
+}
@@ -0,0 +1,81 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomit.main.domain.workplace.dto.response.DistanceWorkplaceResponse;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+import roomit.main.global.geocoding.GeoCoordinate;
+import roomit.main.global.geocoding.Geocoder;
+
+class NearbyWorkplaceSearchServiceTest {
+
+    private final WorkplaceRepository workplaceRepository = mock(WorkplaceRepository.class);
+
+    // 응답하지 않는 외부 API
+    private static Geocoder slowGeocoder(Optional<GeoCoordinate> approximate) {
+        return new Geocoder() {
+            @Override
+            public GeoCoordinate geocode(String address) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<GeoCoordinate> geocodeAsync(String address) {
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public Optional<GeoCoordinate> findApproximate(String address) {
+                return approximate;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("좌표 변환이 제한 시간을 넘기면 상위 주소 좌표로 검색한다")
+    void fallbackToApproximateCoordinate() throws Exception {
+        // Given
+        List<DistanceWorkplaceResponse> nearby = List.of(new DistanceWorkplaceResponse(1L, 10.0));
+        when(workplaceRepository.findNearbyWorkplaces(127.0276, 37.4979, 10000.0)).thenReturn(nearby);
+        NearbyWorkplaceSearchService service = new NearbyWorkplaceSearchService(
+                slowGeocoder(Optional.of(new GeoCoordinate(37.4979, 127.0276))), workplaceRepository, 50, 2);
+
+        // When
+        List<DistanceWorkplaceResponse> result = service.findNearbyWorkplacesAsync("서울 강남구 테헤란로 999", 10000).get();
+
+        // Then
+        assertEquals(nearby, result);
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대체 좌표도 없으면 DB 조회 없이 좌표 변환 실패로 응답한다")
+    void failWithoutApproximateCoordinate() {
+        // Given
+        NearbyWorkplaceSearchService service = new NearbyWorkplaceSearchService(
+                slowGeocoder(Optional.empty()), workplaceRepository, 50, 2);
+
+        // When
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> service.findNearbyWorkplacesAsync("알 수 없는 주소", 10000).get());
+
+        // Then
+        CommonException cause = assertInstanceOf(CommonException.class, exception.getCause());
+        assertEquals(ErrorCode.WORKPLACE_GEOCODING_FAILED, cause.getErrorCode());
+        verifyNoInteractions(workplaceRepository);
+        service.shutdown();
+    }
+}
@@ -0,0 +1,139 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import roomit.main.domain.workplace.service.WorkplaceRecommender.Recommendation;
+import roomit.main.global.resilience.CircuitBreaker;
+
+/**
+ * 로컬 stub 서버(JDK HttpServer)로 Flask 추천 서버를 대신함
+ */
+class RemoteWorkplaceRecommenderTest {
+
+    private static final String RESPONSE = """
+            {"age_group": 20, "recommendations": [
+              {"workplace_id": 3, "workplace_name": "사업장3", "predicted_rating": 2.87, "final_score": 3.66},
+              {"workplace_id": 6, "workplace_name": "사업장6", "predicted_rating": 2.69, "final_score": 3.61}
+            ]}
+            """;
+    private static final List<Recommendation> POPULAR = List.of(new Recommendation(99L, 0.0, 5.0));
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    private HttpServer server;
+    private RemoteWorkplaceRecommender recommender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/recommend", this::handle);
+        server.start();
+
+        RemoteWorkplaceRecommender.Settings settings = new RemoteWorkplaceRecommender.Settings(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/recommend",
+                Duration.ofMillis(500), Duration.ofMillis(300), 4, 4, 2, Duration.ofMinutes(1),
+                100, Duration.ofMinutes(10));
+        recommender = new RemoteWorkplaceRecommender(settings, WebClient.builder(), (memberId, age, n) -> POPULAR);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recommender.close();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            Thread.sleep(delayMillis.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status.get(), body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @Test
+    @DisplayName("추천 서버 응답을 변환하고 지연 시간을 기록한다")
+    void recommend() {
+        // When
+        List<Recommendation> result = recommender.recommend(1L, 25, 2);
+
+        // Then
+        assertEquals(List.of(new Recommendation(3L, 2.87, 3.66), new Recommendation(6L, 2.69, 3.61)), result);
+        assertEquals(1, recommender.stats().callCount());
+        assertEquals(0, recommender.stats().fallbackCount());
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간을 넘기면 인기 사업장 목록으로 응답한다")
+    void fallbackOnTimeout() {
+        // Given
+        delayMillis.set(1000);
+
+        // When
+        List<Recommendation> result = recommender.recommend(1L, 25, 2);
+
+        // Then
+        assertEquals(POPULAR, result);
+        assertEquals(1, recommender.stats().circuitBreaker().failureCount());
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 서버를 호출하지 않고 마지막 추천 결과로 응답한다")
+    void openCircuitServesLastResult() {
+        // Given
+        List<Recommendation> healthy = recommender.recommend(1L, 25, 2);
+        status.set(500);
+        recommender.recommend(2L, 25, 2);
+        recommender.recommend(2L, 25, 2);  // 연속 2회 실패 -> OPEN
+        int requestsBeforeOpen = requestCount.get();
+
+        // When
+        List<Recommendation> cached = recommender.recommend(1L, 25, 2);
+        List<Recommendation> popular = recommender.recommend(3L, 25, 2);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, recommender.stats().circuitBreaker().state());
+        assertEquals(requestsBeforeOpen, requestCount.get());
+        assertEquals(healthy, cached);
+        assertEquals(POPULAR, popular);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서버 장애로 세지 않는다")
+    void clientErrorDoesNotOpenCircuit() {
+        // Given
+        status.set(400);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            recommender.recommend(1L, 25, 2);
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, recommender.stats().circuitBreaker().state());
+        assertEquals(3, requestCount.get());
+    }
+}
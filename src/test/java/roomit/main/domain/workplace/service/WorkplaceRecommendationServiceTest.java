@@ -0,0 +1,72 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import roomit.main.domain.workplace.dto.response.WorkplaceRecommendResponse;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.entity.value.WorkplaceAddress;
+import roomit.main.domain.workplace.entity.value.WorkplaceName;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.inner.ImageUrl;
+import roomit.main.global.service.FileLocationService;
+
+class WorkplaceRecommendationServiceTest {
+
+    private final WorkplaceRecommender workplaceRecommender = mock(WorkplaceRecommender.class);
+    private final WorkplaceRecommendationStore workplaceRecommendationStore = mock(WorkplaceRecommendationStore.class);
+    private final WorkplaceRepository workplaceRepository = mock(WorkplaceRepository.class);
+    private final FileLocationService fileLocationService = mock(FileLocationService.class);
+
+    private final WorkplaceRecommendationService service = new WorkplaceRecommendationService(
+            workplaceRecommender, workplaceRecommendationStore, workplaceRepository, fileLocationService);
+
+    private static Workplace workplace(long id) {
+        ImageUrl imageUrl = mock(ImageUrl.class);
+        when(imageUrl.getValue()).thenReturn("https://bucket/workplaces/" + id);
+
+        Workplace workplace = mock(Workplace.class);
+        when(workplace.getWorkplaceId()).thenReturn(id);
+        when(workplace.getWorkplaceName()).thenReturn(new WorkplaceName("사업장" + id));
+        when(workplace.getWorkplaceAddress()).thenReturn(new WorkplaceAddress("서울특별시 강남구 테헤란로 " + id));
+        when(workplace.getImageUrl()).thenReturn(imageUrl);
+        when(workplace.getStarSum()).thenReturn(8L);
+        when(workplace.getReviewCount()).thenReturn(2L);
+        when(workplace.getLocation()).thenReturn(new GeometryFactory().createPoint(new Coordinate(127.0, 37.5)));
+        return workplace;
+    }
+
+    @Test
+    @DisplayName("추천 순서를 유지해 한 번에 조회하고 없는 사업장은 제외한다")
+    void hydrateInOrder() {
+        // Given
+        when(workplaceRecommendationStore.find(7L, 25, 3)).thenReturn(Optional.of(List.of(3L, 1L, 2L)));
+        when(workplaceRepository.findAllByIdInOrder(anyList())).thenCallRealMethod();
+        when(workplaceRepository.findAllById(List.of(3L, 1L, 2L))).thenReturn(List.of(workplace(1L), workplace(3L)));
+        when(fileLocationService.resolveThumbnailsByImageUrl(anyCollection())).thenReturn(Map.of(
+                "https://bucket/workplaces/1", "thumb-1",
+                "https://bucket/workplaces/3", "thumb-3"));
+
+        // When
+        List<WorkplaceRecommendResponse> responses = service.getRecommendations(7L, 25, 3);
+
+        // Then
+        assertEquals(List.of(3L, 1L), responses.stream().map(WorkplaceRecommendResponse::workplaceId).toList());
+        assertEquals("thumb-3", responses.get(0).imageUrl());
+        assertEquals(4.0, responses.get(0).stars());
+        verify(workplaceRepository, times(1)).findAllById(anyList());
+        verify(fileLocationService, times(1)).resolveThumbnailsByImageUrl(anyCollection());
+    }
+}
@@ -0,0 +1,94 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import roomit.main.domain.member.repository.MemberRepository;
+import roomit.main.domain.workplace.service.WorkplaceRecommender.Recommendation;
+
+class WorkplaceRecommendationStoreTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ZSetOperations<String, Object> zSetOperations;
+    private WorkplaceRecommender workplaceRecommender;
+    private WorkplaceRecommendationStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        workplaceRecommender = mock(WorkplaceRecommender.class);
+
+        store = new WorkplaceRecommendationStore(redisTemplate, workplaceRecommender, mock(MemberRepository.class));
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "size", 20);
+        ReflectionTestUtils.setField(store, "ttlHours", 26L);
+    }
+
+    @Test
+    @DisplayName("회원 추천 목록이 있으면 저장된 순서대로 반환한다")
+    void findMemberRecommendations() {
+        // Given
+        when(zSetOperations.range("recommend:20:7", 0, 2)).thenReturn(new LinkedHashSet<>(List.of("5", "3", "9")));
+
+        // When
+        Optional<List<Long>> result = store.find(7L, 25, 3);
+
+        // Then
+        assertEquals(Optional.of(List.of(5L, 3L, 9L)), result);
+    }
+
+    @Test
+    @DisplayName("회원 추천 목록이 없으면 연령대 인기 목록을 반환한다")
+    void fallbackToPopular() {
+        // Given
+        when(zSetOperations.range("recommend:30:7", 0, 1)).thenReturn(Set.of());
+        when(zSetOperations.range("recommend:popular:30", 0, 1)).thenReturn(new LinkedHashSet<>(List.of("2", "4")));
+
+        // When
+        Optional<List<Long>> result = store.find(7L, 33, 2);
+
+        // Then
+        assertEquals(Optional.of(List.of(2L, 4L)), result);
+    }
+
+    @Test
+    @DisplayName("저장된 개수보다 많이 요청하면 직접 계산하도록 비어 있는 결과를 반환한다")
+    void tooManyRequested() {
+        assertTrue(store.find(7L, 25, 21).isEmpty());
+    }
+
+    @Test
+    @DisplayName("회원 추천 목록을 순위 순서로 저장한다")
+    void materialize() {
+        // Given
+        when(workplaceRecommender.recommend(7L, 25, 20)).thenReturn(List.of(
+                new Recommendation(5L, 3.1, 4.2),
+                new Recommendation(3L, 2.9, 4.2)));
+
+        // When
+        boolean written = store.materialize(7L, 25);
+
+        // Then
+        assertTrue(written);
+        verify(zSetOperations).add(eq("recommend:20:7:tmp"), anySet());
+        verify(redisTemplate).rename("recommend:20:7:tmp", "recommend:20:7");
+    }
+}
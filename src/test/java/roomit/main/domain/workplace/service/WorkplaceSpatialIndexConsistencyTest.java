@@ -0,0 +1,99 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import roomit.main.domain.workplace.dto.request.WorkplaceGetRequest;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.entity.value.Coordinate;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.global.util.PointUtil;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkplaceSpatialIndexConsistencyTest {
+
+    private static final int WORKPLACE_COUNT = 300;
+    private static final int QUERY_COUNT = 200;
+
+    @Autowired
+    private WorkplaceService workplaceService;
+
+    @Autowired
+    private WorkplaceRepository workplaceRepository;
+
+    @Autowired
+    private WorkplaceSpatialIndexUpdater workplaceSpatialIndexUpdater;
+
+    @Autowired
+    private PointUtil pointUtil;
+
+    private final Random random = new Random(42);
+
+    @BeforeAll
+    void setUp() {
+        workplaceRepository.deleteAll();
+
+        for (int i = 0; i < WORKPLACE_COUNT; i++) {
+            workplaceRepository.save(Workplace.builder()
+                    .workplaceName("사업장" + i)
+                    .workplacePhoneNumber("02-1234-5678")
+                    .workplaceDescription("인덱스 검증용 사업장")
+                    .workplaceAddress("서울시 강남구 테헤란로 " + i)
+                    .workplaceStartTime(LocalTime.of(9, 0))
+                    .workplaceEndTime(LocalTime.of(18, 0))
+                    .location(pointUtil.createPoint(126.8 + random.nextDouble() * 0.4, 37.4 + random.nextDouble() * 0.3))
+                    .build());
+        }
+
+        workplaceSpatialIndexUpdater.load();
+    }
+
+    @AfterAll
+    void tearDown() {
+        workplaceRepository.deleteAll();
+    }
+
+    private WorkplaceGetRequest randomRequest() {
+        double longitude = 126.8 + random.nextDouble() * 0.4;
+        double latitude = 37.4 + random.nextDouble() * 0.3;
+        double span = 0.02 + random.nextDouble() * 0.1;
+        return WorkplaceGetRequest.builder()
+                .bottomLeft(new Coordinate(latitude - span, longitude - span))
+                .topRight(new Coordinate(latitude + span, longitude + span))
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    @Test
+    @DisplayName("메모리 인덱스 조회 결과가 DB 공간 쿼리 결과와 같다")
+    void sameResultAsDatabase() {
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            // Given
+            WorkplaceGetRequest request = randomRequest();
+
+            // When
+            List<WorkplaceSpatialIndex.Match> fromDatabase = workplaceService.findWithinAreaFromDatabase(request);
+            List<WorkplaceSpatialIndex.Match> fromIndex = workplaceService.findWithinAreaFromIndex(request);
+
+            // Then
+            assertEquals(fromDatabase.size(), fromIndex.size());
+            for (int j = 0; j < fromDatabase.size(); j++) {
+                assertEquals(fromDatabase.get(j).distance(), fromIndex.get(j).distance(), 1e-6);
+                assertEquals(fromDatabase.get(j).entry().workplaceId(), fromIndex.get(j).entry().workplaceId());
+            }
+        }
+    }
+}
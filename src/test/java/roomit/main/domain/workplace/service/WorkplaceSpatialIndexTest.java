@@ -0,0 +1,102 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WorkplaceSpatialIndexTest {
+
+    private static WorkplaceSpatialIndex.Entry entry(long id, double longitude, double latitude) {
+        return new WorkplaceSpatialIndex.Entry(id, "사업장" + id, "서울시 강남구 " + id, null, List.of(),
+                0L, 0L, longitude, latitude);
+    }
+
+    private static List<Long> ids(List<WorkplaceSpatialIndex.Match> matches) {
+        return matches.stream().map(match -> match.entry().workplaceId()).toList();
+    }
+
+    @Test
+    @DisplayName("영역 안의 사업장만 가까운 순으로 최대 개수만큼 조회된다")
+    void findWithinArea() {
+        // Given
+        WorkplaceSpatialIndex index = new WorkplaceSpatialIndex();
+        index.beginLoad();
+        index.completeLoad(List.of(
+                entry(1L, 127.03, 37.50),
+                entry(2L, 127.01, 37.50),
+                entry(3L, 127.02, 37.51),
+                entry(4L, 127.50, 37.50)  // 영역 밖
+        ));
+
+        // When
+        List<WorkplaceSpatialIndex.Match> matches = index.findWithinArea(
+                127.0, 37.4, 127.1, 37.6, 127.0, 37.5, 2);
+
+        // Then
+        assertTrue(index.isReady());
+        assertEquals(List.of(2L, 3L), ids(matches));
+        assertEquals(Math.sqrt(0.01 * 0.01) * 100, matches.get(0).distance(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("위치 변경과 삭제가 인덱스에 반영된다")
+    void upsertAndRemove() {
+        // Given
+        WorkplaceSpatialIndex index = new WorkplaceSpatialIndex();
+        index.beginLoad();
+        index.completeLoad(List.of(entry(1L, 127.01, 37.50), entry(2L, 127.02, 37.50)));
+
+        // When
+        index.upsert(entry(1L, 128.00, 37.50));  // 영역 밖으로 이동
+        index.remove(2L);
+        index.upsert(entry(3L, 127.05, 37.55));
+
+        // Then
+        assertEquals(List.of(3L), ids(index.findWithinArea(127.0, 37.4, 127.1, 37.6, 127.0, 37.5, 10)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("적재 중에 들어온 변경은 적재 결과로 덮어쓰지 않는다")
+    void keepChangesDuringLoad() {
+        // Given
+        WorkplaceSpatialIndex index = new WorkplaceSpatialIndex();
+        index.beginLoad();
+
+        // When
+        index.upsert(entry(1L, 127.05, 37.55));
+        index.remove(2L);
+        index.completeLoad(List.of(entry(1L, 128.00, 37.50), entry(2L, 127.02, 37.50)));
+
+        // Then
+        assertEquals(List.of(1L), ids(index.findWithinArea(127.0, 37.4, 127.1, 37.6, 127.0, 37.5, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("가까운 순 조회는 커서 이후의 사업장을 중복 없이 이어서 반환한다")
+    void findNearestWithCursor() {
+        // Given
+        WorkplaceSpatialIndex index = new WorkplaceSpatialIndex();
+        index.beginLoad();
+        index.completeLoad(List.of(
+                entry(1L, 127.75, 37.50),
+                entry(2L, 127.50, 37.50),
+                entry(3L, 126.50, 37.50),  // 2번과 같은 거리
+                entry(4L, 129.00, 37.50)
+        ));
+
+        // When
+        List<WorkplaceSpatialIndex.Match> first = index.findNearest(127.0, 37.5, -1, 0L, 2);
+        WorkplaceSpatialIndex.Match last = first.get(first.size() - 1);
+        List<WorkplaceSpatialIndex.Match> second = index.findNearest(
+                127.0, 37.5, last.distance(), last.entry().workplaceId(), 2);
+
+        // Then
+        assertEquals(List.of(2L, 3L), ids(first));
+        assertEquals(List.of(1L, 4L), ids(second));
+    }
+}
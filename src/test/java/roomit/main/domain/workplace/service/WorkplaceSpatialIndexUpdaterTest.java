@@ -0,0 +1,89 @@
+package roomit.main.domain.workplace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+
+class WorkplaceSpatialIndexUpdaterTest {
+
+    private final WorkplaceSpatialIndex index = new WorkplaceSpatialIndex();
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final WorkplaceRepository workplaceRepository = mock(WorkplaceRepository.class);
+
+    private final WorkplaceSpatialIndexUpdater updater = new WorkplaceSpatialIndexUpdater(index,
+            workplaceRepository, stringRedisTemplate, mock(RedisMessageListenerContainer.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(updater, "enabled", true);
+        ReflectionTestUtils.setField(updater, "loadBatchSize", 2);
+        index.beginLoad();
+        index.completeLoad(List.of(
+                new WorkplaceSpatialIndex.Entry(1L, "사업장1", "서울시 강남구 1", null, List.of(), 0L, 0L, 127.01, 37.50),
+                new WorkplaceSpatialIndex.Entry(2L, "사업장2", "서울시 강남구 2", null, List.of(), 0L, 0L, 127.02, 37.50)));
+    }
+
+    private String instanceId() {
+        return (String) ReflectionTestUtils.getField(updater, "instanceId");
+    }
+
+    @Test
+    @DisplayName("커밋된 변경을 반영한 뒤 다른 서버에 알린다")
+    void broadcastLocalChange() {
+        // When
+        updater.onWorkplaceChanged(WorkplaceChangedEvent.deleted(1L));
+
+        // Then
+        assertEquals(1, index.size());
+        verify(stringRedisTemplate).convertAndSend(eq(WorkplaceSpatialIndexUpdater.CHANGED_CHANNEL),
+                eq(instanceId() + "|1|true"));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 받은 변경은 반영하고, 자기가 보낸 메시지는 무시한다")
+    void applyRemoteChange() {
+        // When
+        updater.onBroadcast("other-instance|1|true");
+        updater.onBroadcast(instanceId() + "|2|true");
+
+        // Then
+        assertEquals(1, index.size());
+        assertEquals(2L, index.entries().get(0).workplaceId());
+    }
+
+    private static Object[] row(long workplaceId, double longitude, double latitude) {
+        return new Object[]{workplaceId, "사업장" + workplaceId, "서울시 강남구 " + workplaceId, null, List.of(), 5L, 1L,
+                new GeometryFactory().createPoint(new Coordinate(longitude, latitude))};
+    }
+
+    @Test
+    @DisplayName("전체 재적재는 필요한 컬럼만 id 순으로 나눠 읽는다")
+    void reloadInBatches() {
+        // Given - 배치 크기 2, 사업장 3개
+        when(workplaceRepository.findSpatialIndexRows(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(row(1L, 127.01, 37.50), row(2L, 127.02, 37.50)));
+        when(workplaceRepository.findSpatialIndexRows(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.<Object[]>of(row(3L, 127.03, 37.50)));
+
+        // When
+        updater.reload();
+
+        // Then
+        assertEquals(3, index.size());
+        verify(workplaceRepository).findSpatialIndexRows(2L, PageRequest.of(0, 2));
+    }
+}
@@ -0,0 +1,73 @@
+package roomit.main.global.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 미스로 처리되고 제거된다")
+    void expireAfterTtl() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(5), now::get);
+        cache.put("workplace-1", "a.jpg");
+
+        // When
+        String beforeExpire = cache.get("workplace-1");
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        String afterExpire = cache.get("workplace-1");
+
+        // Then
+        assertEquals("a.jpg", beforeExpire);
+        assertNull(afterExpire);
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.evictionCount());
+        assertEquals(0, stats.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다")
+    void evictLeastRecentlyUsed() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2, Duration.ofMinutes(1), now::get);
+        cache.put("workplace-1", "a.jpg");
+        cache.put("workplace-2", "b.jpg");
+        cache.get("workplace-1");
+
+        // When
+        cache.put("workplace-3", "c.jpg");
+
+        // Then
+        assertEquals("a.jpg", cache.get("workplace-1"));
+        assertNull(cache.get("workplace-2"));
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    @DisplayName("prefix 조건으로 하위 폴더까지 무효화한다")
+    void invalidateByPrefix() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofMinutes(1), now::get);
+        cache.put("workplace-1", "a.jpg");
+        cache.put("workplace-1/studyroom-1", "b.jpg");
+        cache.put("workplace-10", "c.jpg");
+
+        // When
+        cache.invalidateIf(key -> key.equals("workplace-1") || key.startsWith("workplace-1/"));
+
+        // Then
+        assertNull(cache.get("workplace-1"));
+        assertNull(cache.get("workplace-1/studyroom-1"));
+        assertEquals("c.jpg", cache.get("workplace-10"));
+        assertEquals(2, cache.stats().invalidationCount());
+    }
+}
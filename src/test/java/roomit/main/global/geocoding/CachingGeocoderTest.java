@@ -0,0 +1,107 @@
+package roomit.main.global.geocoding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class CachingGeocoderTest {
+
+    private final AtomicInteger externalCalls = new AtomicInteger();
+    private final StubGeocoder stubGeocoder = new StubGeocoder()
+            .register("서울특별시 중구 세종대로 110", new GeoCoordinate(37.5663, 126.9779));
+    private final Geocoder countingGeocoder = address -> {
+        externalCalls.incrementAndGet();
+        return stubGeocoder.geocode(address);
+    };
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("정규화 후 같은 주소는 외부 API 를 한 번만 호출한다")
+    void localCacheWithNormalizedAddress() {
+        // Given
+        CachingGeocoder geocoder = new CachingGeocoder(countingGeocoder, redisTemplate, 100, Duration.ofMinutes(10));
+
+        // When
+        GeoCoordinate first = geocoder.geocode("서울특별시 중구 세종대로 110");
+        GeoCoordinate second = geocoder.geocode("  서울특별시   중구 세종대로　110 ");
+
+        // Then
+        assertEquals(new GeoCoordinate(37.5663, 126.9779), first);
+        assertEquals(first, second);
+        assertEquals(1, externalCalls.get());
+        verify(hashOperations).put(eq(CachingGeocoder.GEOCODE_KEY), eq("서울특별시 중구 세종대로 110"), any());
+    }
+
+    @Test
+    @DisplayName("메모리 캐시에 없으면 Redis 에 저장된 좌표를 사용한다")
+    void storedCoordinate() {
+        // Given
+        when(hashOperations.get(CachingGeocoder.GEOCODE_KEY, "서울특별시 중구 세종대로 110"))
+                .thenReturn("37.5663,126.9779");
+        CachingGeocoder geocoder = new CachingGeocoder(countingGeocoder, redisTemplate, 100, Duration.ofMinutes(10));
+
+        // When
+        GeoCoordinate coordinate = geocoder.geocode("서울특별시 중구 세종대로 110");
+
+        // Then
+        assertEquals(new GeoCoordinate(37.5663, 126.9779), coordinate);
+        assertEquals(0, externalCalls.get());
+    }
+
+    @Test
+    @DisplayName("비동기 변환 결과의 Redis 저장은 응답 스레드가 아닌 전달받은 executor 에서 실행한다")
+    void asyncStoreRunsOnExecutor() {
+        // Given - 응답이 아직 오지 않은 외부 API, 실행을 모아두는 executor
+        CompletableFuture<GeoCoordinate> response = new CompletableFuture<>();
+        Geocoder pendingGeocoder = new Geocoder() {
+            @Override
+            public GeoCoordinate geocode(String address) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<GeoCoordinate> geocodeAsync(String address) {
+                return response;
+            }
+        };
+        List<Runnable> tasks = new ArrayList<>();
+        CachingGeocoder geocoder = new CachingGeocoder(pendingGeocoder, redisTemplate, 100, Duration.ofMinutes(10));
+        CompletableFuture<GeoCoordinate> result = geocoder.geocodeAsync("서울특별시 중구 세종대로 110", tasks::add);
+
+        // When - 응답 스레드에서 완료
+        response.complete(new GeoCoordinate(37.5663, 126.9779));
+
+        // Then - executor 가 실행하기 전에는 저장하지 않음
+        verify(hashOperations, never()).put(any(), any(), any());
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(new GeoCoordinate(37.5663, 126.9779), result.join());
+        verify(hashOperations).put(eq(CachingGeocoder.GEOCODE_KEY), eq("서울특별시 중구 세종대로 110"), any());
+    }
+}
@@ -0,0 +1,50 @@
+package roomit.main.global.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageUrlTest {
+
+    private final ImageKeysConverter converter = new ImageKeysConverter();
+
+    @Test
+    @DisplayName("이미지 key 는 S3 목록과 같은 사전순으로 중복 없이 저장된다")
+    void addImageKeyKeepsOrder() {
+        // Given
+        ImageUrl imageUrl = new ImageUrl("workplace-1", "bucket", "ap-northeast-2");
+
+        // When
+        ImageUrl updated = imageUrl
+                .withImageKeys(List.of("workplace-1/b.jpg"))
+                .addImageKey("workplace-1/a.jpg")
+                .addImageKey("workplace-1/b.jpg");
+
+        // Then
+        assertFalse(imageUrl.hasImageManifest());
+        assertTrue(updated.hasImageManifest());
+        assertEquals(imageUrl.getValue(), updated.getValue());
+        assertEquals(List.of("workplace-1/a.jpg", "workplace-1/b.jpg"), updated.getImageKeys());
+    }
+
+    @Test
+    @DisplayName("수집되지 않은 key 목록(null)과 빈 목록은 구분되어 저장된다")
+    void convertNullAndEmpty() {
+        // Given
+        List<String> keys = List.of("workplace-1/a.jpg");
+
+        // When
+        String json = converter.convertToDatabaseColumn(keys);
+
+        // Then
+        assertEquals(keys, converter.convertToEntityAttribute(json));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertEquals(List.of(), converter.convertToEntityAttribute(converter.convertToDatabaseColumn(List.of())));
+    }
+}
@@ -0,0 +1,80 @@
+package roomit.main.global.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), now::get);
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준 횟수에 도달하면 호출을 막는다")
+    void openAfterConsecutiveFailures() {
+        // Given
+        fail(2);
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();  // 성공하면 연속 실패 횟수 초기화
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        // When
+        fail(1);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(1, circuitBreaker.stats().rejectedCount());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 호출 한 번만 허용하고 성공하면 복구한다")
+    void halfOpenTrial() {
+        // Given
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        boolean trial = circuitBreaker.tryAcquirePermission();
+        boolean concurrent = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        // Then
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(Duration.ofSeconds(30), circuitBreaker.stats().openTime());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 대기한다")
+    void reopenWhenTrialFails() {
+        // Given
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(Duration.ofSeconds(40), circuitBreaker.stats().openTime());
+        assertEquals(1, circuitBreaker.stats().openCount());
+    }
+}
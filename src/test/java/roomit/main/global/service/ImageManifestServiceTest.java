@@ -0,0 +1,119 @@
+package roomit.main.global.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import roomit.main.domain.business.entity.Business;
+import roomit.main.domain.studyroom.repository.StudyRoomRepository;
+import roomit.main.domain.workplace.entity.Workplace;
+import roomit.main.domain.workplace.repository.WorkplaceRepository;
+import roomit.main.domain.workplace.service.WorkplaceChangedEvent;
+import roomit.main.global.error.ErrorCode;
+import roomit.main.global.exception.CommonException;
+import roomit.main.global.inner.ImageUrl;
+
+class ImageManifestServiceTest {
+
+    private static final Long OWNER_ID = 7L;
+    private static final String FOLDER = "workplace/1";
+    private static final String FOLDER_URL = "https://s3.ap-northeast-2.amazonaws.com/roomit/workplace/1";
+
+    private final WorkplaceRepository workplaceRepository = mock(WorkplaceRepository.class);
+    private final StudyRoomRepository studyRoomRepository = mock(StudyRoomRepository.class);
+    private final FileLocationService fileLocationService = mock(FileLocationService.class);
+    private final ImageService imageService = mock(ImageService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final ImageManifestService imageManifestService = new ImageManifestService(workplaceRepository,
+            studyRoomRepository, fileLocationService, imageService, eventPublisher);
+
+    private final Workplace workplace = mock(Workplace.class);
+
+    @BeforeEach
+    void setUp() {
+        Business owner = mock(Business.class);
+        when(owner.getBusinessId()).thenReturn(OWNER_ID);
+        when(workplace.getWorkplaceId()).thenReturn(1L);
+        when(workplace.getBusiness()).thenReturn(owner);
+        when(workplace.getImageUrl()).thenReturn(
+                new ImageUrl(FOLDER, "roomit", "ap-northeast-2").withImageKeys(List.of(FOLDER + "/a.png")));
+
+        ImageUrl folderUrl = mock(ImageUrl.class);
+        when(folderUrl.getValue()).thenReturn(FOLDER_URL);
+        when(imageService.createImageUrl(FOLDER)).thenReturn(folderUrl);
+        when(studyRoomRepository.findByImageUrlValue(FOLDER_URL)).thenReturn(Optional.empty());
+        when(workplaceRepository.findByImageUrlValue(FOLDER_URL)).thenReturn(Optional.of(workplace));
+        when(fileLocationService.isImageFile(any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("본인 사업장 폴더에 실제로 올라간 이미지를 key 목록에 추가한다")
+    void completeUpload() {
+        // Given
+        when(fileLocationService.exists(FOLDER + "/b.png")).thenReturn(true);
+
+        // When
+        imageManifestService.completeUpload(OWNER_ID, "b.png", FOLDER);
+
+        // Then
+        ArgumentCaptor<ImageUrl> captor = ArgumentCaptor.forClass(ImageUrl.class);
+        verify(workplace).changeImageUrl(captor.capture());
+        assertEquals(List.of(FOLDER + "/a.png", FOLDER + "/b.png"), captor.getValue().getImageKeys());
+        verify(eventPublisher).publishEvent(WorkplaceChangedEvent.updated(1L));
+        verify(fileLocationService).evictImages(FOLDER);
+    }
+
+    @Test
+    @DisplayName("다른 사업자의 사업장 폴더에는 이미지를 등록할 수 없다")
+    void rejectOtherBusiness() {
+        // When
+        CommonException exception = assertThrows(CommonException.class,
+                () -> imageManifestService.completeUpload(OWNER_ID + 1, "b.png", FOLDER));
+
+        // Then
+        assertEquals(ErrorCode.BUSINESS_NOT_AUTHORIZED, exception.getErrorCode());
+        verify(workplace, never()).changeImageUrl(any());
+    }
+
+    @Test
+    @DisplayName("S3 에 올라가지 않은 이미지는 등록할 수 없다")
+    void rejectMissingObject() {
+        // Given
+        when(fileLocationService.exists(FOLDER + "/b.png")).thenReturn(false);
+
+        // When
+        CommonException exception = assertThrows(CommonException.class,
+                () -> imageManifestService.completeUpload(OWNER_ID, "b.png", FOLDER));
+
+        // Then
+        assertEquals(ErrorCode.S3_IMAGE_NOT_UPLOADED, exception.getErrorCode());
+        verify(workplace, never()).changeImageUrl(any());
+    }
+
+    @Test
+    @DisplayName("폴더 밖을 가리키는 파일 이름은 거절한다")
+    void rejectKeyOutsideFolder() {
+        // When
+        CommonException nested = assertThrows(CommonException.class,
+                () -> imageManifestService.completeUpload(OWNER_ID, "other/b.png", FOLDER));
+        CommonException parent = assertThrows(CommonException.class,
+                () -> imageManifestService.completeUpload(OWNER_ID, "..", FOLDER));
+
+        // Then
+        assertEquals(ErrorCode.S3_IMAGE_INVALID_KEY, nested.getErrorCode());
+        assertEquals(ErrorCode.S3_IMAGE_INVALID_KEY, parent.getErrorCode());
+        verify(fileLocationService, never()).exists(any());
+    }
+}
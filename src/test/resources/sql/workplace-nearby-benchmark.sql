@@ -0,0 +1,50 @@
+-- 주변 사업장 검색 쿼리 벤치마크 (MySQL 8)
+-- 운영 테이블과 분리된 workplace_nearby_bench 테이블에 10만 건을 만들어
+-- 기존 ST_Distance 전체 스캔 쿼리와 projected_location SPATIAL 인덱스 쿼리의 실행 계획/시간을 비교
+--
+-- mysql -u root -p roomit < src/test/resources/sql/workplace-nearby-benchmark.sql
+
+DROP TABLE IF EXISTS workplace_nearby_bench;
+
+CREATE TABLE workplace_nearby_bench (
+    workplace_id       BIGINT   NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    location           GEOMETRY NOT NULL,
+    projected_location POINT SRID 5181
+        GENERATED ALWAYS AS (IF(ST_SRID(location) = 5181, location, ST_Transform(location, 5181))) STORED NOT NULL,
+    SPATIAL INDEX idx_bench_projected_location (projected_location)
+);
+
+SET SESSION cte_max_recursion_depth = 100000;
+
+-- 서울/경기 범위(경도 126.7 ~ 127.3, 위도 37.3 ~ 37.7)에 고르게 분포
+INSERT INTO workplace_nearby_bench (location)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 100000
+)
+SELECT ST_GeomFromText(CONCAT('POINT(', 126.7 + RAND(n) * 0.6, ' ', 37.3 + RAND(n + 100000) * 0.4, ')'), 5181)
+FROM seq;
+
+ANALYZE TABLE workplace_nearby_bench;
+
+-- 1) 기존 쿼리: 함수로 감싼 컬럼에 대해 거리를 3번 계산, 인덱스를 쓸 수 없어 전체 스캔
+EXPLAIN ANALYZE
+SELECT w.workplace_id,
+       ST_Distance(ST_Transform(w.location, 5181), ST_Transform(ST_GeomFromText('POINT(127.0276 37.4979)', 5181), 5181)) * 100 AS distance
+FROM workplace_nearby_bench w
+WHERE ST_Distance(ST_Transform(w.location, 5181), ST_Transform(ST_GeomFromText('POINT(127.0276 37.4979)', 5181), 5181)) <= 0.01
+ORDER BY ST_Distance(ST_Transform(w.location, 5181), ST_Transform(ST_GeomFromText('POINT(127.0276 37.4979)', 5181), 5181));
+
+-- 2) 변경된 쿼리: SPATIAL 인덱스로 사각형 범위만 읽고 거리는 한 번만 계산
+EXPLAIN ANALYZE
+SELECT w.workplace_id,
+       ST_Distance(w.projected_location, ST_GeomFromText('POINT(127.0276 37.4979)', 5181)) * 100 AS distance
+FROM workplace_nearby_bench w
+WHERE MBRContains(
+          ST_GeomFromText('POLYGON((127.0176 37.4879, 127.0376 37.4879, 127.0376 37.5079, 127.0176 37.5079, 127.0176 37.4879))', 5181),
+          w.projected_location)
+HAVING distance <= 0.01 * 100
+ORDER BY distance;
+
+DROP TABLE workplace_nearby_bench;